@@ -0,0 +1,80 @@
+package com.banquito.core.branches.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.banquito.core.branches.controller.dto.BranchRQRS;
+import com.banquito.core.branches.controller.mapper.BranchMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Jackson cost of the branch listing and of a single branch, with a mapper
+ * set up like the one Spring Boot builds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BranchJsonBenchmark {
+
+    @Param({ "100", "10000" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private JavaType listType;
+    private List<BranchRQRS> branches;
+    private BranchRQRS branch;
+    private byte[] branchesJson;
+    private byte[] branchJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        this.objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.listType = this.objectMapper.getTypeFactory().constructCollectionType(List.class, BranchRQRS.class);
+        this.branches = BranchMapper.mapToList(Fixtures.branches(this.size));
+        this.branch = this.branches.get(0);
+        this.branchesJson = this.objectMapper.writeValueAsBytes(this.branches);
+        this.branchJson = this.objectMapper.writeValueAsBytes(this.branch);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.branches);
+    }
+
+    @Benchmark
+    public List<BranchRQRS> deserializeList() throws Exception {
+        return this.objectMapper.readValue(this.branchesJson, this.listType);
+    }
+
+    @Benchmark
+    public byte[] serializeOne() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.branch);
+    }
+
+    @Benchmark
+    public BranchRQRS deserializeOne() throws Exception {
+        return this.objectMapper.readValue(this.branchJson, BranchRQRS.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.banquito.core.branches.benchmark;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.banquito.core.branches.controller.dto.BranchRQRS;
+import com.banquito.core.branches.controller.mapper.BranchMapper;
+import com.banquito.core.branches.model.Branch;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BranchMapperBenchmark {
+
+    @Param({ "100", "10000" })
+    private int size;
+
+    private List<Branch> branches;
+    private List<BranchRQRS> branchesRQRS;
+    private final Set<String> fields = Set.of("code", "name");
+
+    @Setup
+    public void setUp() {
+        this.branches = Fixtures.branches(this.size);
+        this.branchesRQRS = BranchMapper.mapToList(this.branches);
+    }
+
+    @Benchmark
+    public List<BranchRQRS> mapToList() {
+        return BranchMapper.mapToList(this.branches);
+    }
+
+    @Benchmark
+    public List<BranchRQRS> mapToListWithFields() {
+        return BranchMapper.mapToList(this.branches, this.fields);
+    }
+
+    @Benchmark
+    public void mapToBranch(Blackhole blackhole) {
+        for (BranchRQRS branchRQRS : this.branchesRQRS) {
+            blackhole.consume(BranchMapper.mapToBranch(branchRQRS));
+        }
+    }
+}
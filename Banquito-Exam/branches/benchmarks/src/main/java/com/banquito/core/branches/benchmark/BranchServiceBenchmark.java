@@ -0,0 +1,93 @@
+package com.banquito.core.branches.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.banquito.core.branches.cache.BranchCache;
+import com.banquito.core.branches.exception.CRUDException;
+import com.banquito.core.branches.model.Branch;
+import com.banquito.core.branches.repository.BranchRevisionRepository;
+import com.banquito.core.branches.search.BranchGeoIndex;
+import com.banquito.core.branches.search.BranchSearchIndex;
+import com.banquito.core.branches.service.BranchService;
+
+/**
+ * Read paths of {@link BranchService} over {@link InMemoryBranchRepository}
+ * and a real branch cache. The cache is warmed up, so lookups measure cache
+ * hits and pages measure the service around the repository call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BranchServiceBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({ "10000" })
+    private int size;
+
+    private BranchService service;
+    private List<String> codes;
+    private String code;
+    private String id;
+    private String afterCode;
+
+    @Setup
+    public void setUp() throws CRUDException {
+        List<Branch> branches = Fixtures.branches(this.size);
+        this.service = new BranchService(InMemoryBranchRepository.create(branches),
+                new BranchCache(this.size, 3600), new BranchRevisionRepository(null),
+                new BranchSearchIndex(null), new BranchGeoIndex(null, 0.05));
+        this.codes = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            this.codes.add(Fixtures.code(i * (this.size / PAGE_SIZE)));
+        }
+        this.code = Fixtures.code(this.size / 2);
+        this.id = branches.get(this.size / 2).getId();
+        this.afterCode = Fixtures.code(this.size / 2);
+        this.service.lookByCodes(this.codes);
+        this.service.lookByCode(this.code);
+        this.service.lookById(this.id);
+    }
+
+    @Benchmark
+    public Branch lookByCode() {
+        return this.service.lookByCode(this.code);
+    }
+
+    @Benchmark
+    public Branch lookById() throws CRUDException {
+        return this.service.lookById(this.id);
+    }
+
+    @Benchmark
+    public List<Branch> lookByCodes() {
+        return this.service.lookByCodes(this.codes);
+    }
+
+    @Benchmark
+    public List<Branch> getPage() {
+        return this.service.getPage(this.afterCode, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Branch> getAll() {
+        return this.service.getAll();
+    }
+}
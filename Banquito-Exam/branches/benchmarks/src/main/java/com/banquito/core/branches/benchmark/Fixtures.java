@@ -0,0 +1,35 @@
+package com.banquito.core.branches.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.banquito.core.branches.model.Branch;
+
+/**
+ * Deterministic branch data shared by the benchmarks.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static String code(int index) {
+        return String.format("BR%06d", index);
+    }
+
+    static List<Branch> branches(int size) {
+        List<Branch> branches = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Branch branch = new Branch();
+            branch.setId(String.format("%024x", i));
+            branch.setCode(code(i));
+            branch.setName("Sucursal " + (i % 2 == 0 ? "Norte " : "Sur ") + i);
+            branch.setLocation(new GeoJsonPoint(-78.5 + (i % 100) * 0.01, -0.2 + (i / 100) * 0.01));
+            branch.setVersion((long) (i % 7));
+            branches.add(branch);
+        }
+        return branches;
+    }
+}
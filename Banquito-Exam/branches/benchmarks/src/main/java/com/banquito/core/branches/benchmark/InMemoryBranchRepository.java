@@ -0,0 +1,92 @@
+package com.banquito.core.branches.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.data.domain.Pageable;
+
+import com.banquito.core.branches.model.Branch;
+import com.banquito.core.branches.repository.BranchRepository;
+
+/**
+ * Map-backed stand-in for {@link BranchRepository} covering the read methods
+ * used by {@link com.banquito.core.branches.service.BranchService}, so service
+ * benchmarks measure the service and not Mongo. findProjected returns whole
+ * branches, as the projection is a database concern. Any other method throws.
+ */
+final class InMemoryBranchRepository implements InvocationHandler {
+
+    private final TreeMap<String, Branch> byCode = new TreeMap<>();
+    private final Map<String, Branch> byId = new HashMap<>();
+
+    private InMemoryBranchRepository(Collection<Branch> branches) {
+        for (Branch branch : branches) {
+            this.byCode.put(branch.getCode(), branch);
+            this.byId.put(branch.getId(), branch);
+        }
+    }
+
+    static BranchRepository create(Collection<Branch> branches) {
+        return (BranchRepository) Proxy.newProxyInstance(BranchRepository.class.getClassLoader(),
+                new Class<?>[] { BranchRepository.class }, new InMemoryBranchRepository(branches));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "findByCode":
+                return this.byCode.get((String) args[0]);
+            case "findById":
+                return Optional.ofNullable(this.byId.get((String) args[0]));
+            case "findByCodeIn":
+                List<Branch> found = new ArrayList<>();
+                for (String code : (Collection<String>) args[0]) {
+                    Branch branch = this.byCode.get(code);
+                    if (branch != null) {
+                        found.add(branch);
+                    }
+                }
+                return found;
+            case "findAll":
+                return new ArrayList<>(this.byCode.values());
+            case "findAllBy":
+                return page(this.byCode.values(), ((Pageable) args[0]).getPageSize());
+            case "findByCodeGreaterThan":
+                return page(this.byCode.tailMap((String) args[0], false).values(),
+                        ((Pageable) args[1]).getPageSize());
+            case "findProjected":
+                Collection<Branch> from = args[0] == null ? this.byCode.values()
+                        : this.byCode.tailMap((String) args[0], false).values();
+                int limit = (Integer) args[1];
+                return page(from, limit == 0 ? Integer.MAX_VALUE : limit);
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "InMemoryBranchRepository";
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    private static List<Branch> page(Collection<Branch> branches, int limit) {
+        List<Branch> page = new ArrayList<>(Math.min(limit, branches.size()));
+        for (Branch branch : branches) {
+            if (page.size() >= limit) {
+                break;
+            }
+            page.add(branch);
+        }
+        return page;
+    }
+}
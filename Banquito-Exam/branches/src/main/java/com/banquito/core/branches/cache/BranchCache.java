@@ -0,0 +1,102 @@
+package com.banquito.core.branches.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.banquito.core.branches.model.Branch;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded in-process cache in front of the branch lookups. Entries are
+ * indexed by code and by id, evicted by size and TTL, and refreshed by the
+ * write paths of the branch service.
+ */
+@Slf4j
+@Component
+public class BranchCache implements MeterBinder {
+
+    private final Cache<String, Branch> byCode;
+    private final Cache<String, Branch> byId;
+
+    @Autowired
+    public BranchCache(@Value("${banquito.cache.branches.max-size:10000}") long maxSize,
+            @Value("${banquito.cache.branches.ttl-seconds:600}") long ttlSeconds) {
+        log.info("Branch cache configured with max size: {} and ttl: {}s", maxSize, ttlSeconds);
+        this.byCode = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Branch getByCode(String code) {
+        return this.byCode.getIfPresent(code);
+    }
+
+    public Branch getById(String id) {
+        return this.byId.getIfPresent(id);
+    }
+
+    public void put(Branch branch) {
+        if (branch == null) {
+            return;
+        }
+        if (branch.getCode() != null) {
+            this.byCode.put(branch.getCode(), branch);
+        }
+        if (branch.getId() != null) {
+            this.byId.put(branch.getId(), branch);
+        }
+    }
+
+    public void invalidate(Branch branch) {
+        if (branch == null) {
+            return;
+        }
+        if (branch.getCode() != null) {
+            this.byCode.invalidate(branch.getCode());
+        }
+        if (branch.getId() != null) {
+            this.byId.invalidate(branch.getId());
+        }
+    }
+
+    public void invalidateByCode(String code) {
+        this.invalidate(this.byCode.getIfPresent(code));
+        this.byCode.invalidate(code);
+    }
+
+    public void invalidateAll() {
+        this.byCode.invalidateAll();
+        this.byId.invalidateAll();
+    }
+
+    public CacheStats codeStats() {
+        return this.byCode.stats();
+    }
+
+    public CacheStats idStats() {
+        return this.byId.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.byCode, "branches.byCode");
+        CaffeineCacheMetrics.monitor(registry, this.byId, "branches.byId");
+    }
+}
@@ -11,21 +11,60 @@ import lombok.Getter;
 public class ApplicationValues {
 
     private final String mongoHost;
+    private final int mongoPort;
     private final String mongoDB;
     private final String mongoUsr;
     private final String mongoPwd;
     private final String mongoAut;
+    private final int mongoPoolMinSize;
+    private final int mongoPoolMaxSize;
+    private final long mongoPoolMaxWaitMs;
+    private final long mongoPoolMaxIdleMs;
+    private final int mongoConnectTimeoutMs;
+    private final int mongoSocketTimeoutMs;
+    private final String mongoCompressors;
+    private final String mongoReadPreference;
+    private final String mongoWriteConcern;
 
     @Autowired
     public ApplicationValues(@Value("${banquito.mongo.host}") String mongoHost,
+            @Value("${banquito.mongo.port:27017}") int mongoPort,
             @Value("${banquito.mongo.db}") String mongoDB,
             @Value("${banquito.mongo.usr}") String mongoUsr,
             @Value("${banquito.mongo.pwd}") String mongoPwd,
-            @Value("${banquito.mongo.aut}") String mongoAut) {
+            @Value("${banquito.mongo.aut}") String mongoAut,
+            @Value("${banquito.mongo.pool.min-size:0}") int mongoPoolMinSize,
+            @Value("${banquito.mongo.pool.max-size:100}") int mongoPoolMaxSize,
+            @Value("${banquito.mongo.pool.max-wait-ms:120000}") long mongoPoolMaxWaitMs,
+            @Value("${banquito.mongo.pool.max-idle-ms:0}") long mongoPoolMaxIdleMs,
+            @Value("${banquito.mongo.connect-timeout-ms:10000}") int mongoConnectTimeoutMs,
+            @Value("${banquito.mongo.socket-timeout-ms:0}") int mongoSocketTimeoutMs,
+            @Value("${banquito.mongo.compressors:}") String mongoCompressors,
+            @Value("${banquito.mongo.read-preference:primary}") String mongoReadPreference,
+            @Value("${banquito.mongo.write-concern:ACKNOWLEDGED}") String mongoWriteConcern) {
         this.mongoHost = mongoHost;
+        this.mongoPort = mongoPort;
         this.mongoDB = mongoDB;
         this.mongoUsr = mongoUsr;
         this.mongoPwd = mongoPwd;
         this.mongoAut = mongoAut;
+        this.mongoPoolMinSize = mongoPoolMinSize;
+        this.mongoPoolMaxSize = mongoPoolMaxSize;
+        this.mongoPoolMaxWaitMs = mongoPoolMaxWaitMs;
+        this.mongoPoolMaxIdleMs = mongoPoolMaxIdleMs;
+        this.mongoConnectTimeoutMs = mongoConnectTimeoutMs;
+        this.mongoSocketTimeoutMs = mongoSocketTimeoutMs;
+        this.mongoCompressors = mongoCompressors;
+        this.mongoReadPreference = mongoReadPreference;
+        this.mongoWriteConcern = mongoWriteConcern;
+    }
+
+    public String getMongoConnectionString() {
+        if ("1".equals(this.mongoAut)) {
+            return "mongodb://" + this.mongoUsr + ":" + this.mongoPwd + "@" + this.mongoHost + ":" + this.mongoPort
+                    + "/" + this.mongoDB + "?authSource=admin";
+        } else {
+            return "mongodb://" + this.mongoHost + ":" + this.mongoPort + "/" + this.mongoDB;
+        }
     }
 }
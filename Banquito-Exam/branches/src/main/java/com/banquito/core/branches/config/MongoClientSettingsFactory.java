@@ -0,0 +1,97 @@
+package com.banquito.core.branches.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.banquito.core.branches.metrics.MongoCommandMetrics;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.event.ConnectionPoolListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsConnectionPoolListener;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds the driver settings shared by the blocking and the reactive Mongo
+ * clients from the banquito.mongo.* properties.
+ */
+@Slf4j
+@Component
+public class MongoClientSettingsFactory {
+
+    private final ApplicationValues appValues;
+    private final ConnectionPoolListener poolListener;
+    private final MongoCommandMetrics commandMetrics;
+
+    public MongoClientSettingsFactory(ApplicationValues appValues, MeterRegistry meterRegistry,
+            MongoCommandMetrics commandMetrics) {
+        this.appValues = appValues;
+        this.poolListener = new MongoMetricsConnectionPoolListener(meterRegistry);
+        this.commandMetrics = commandMetrics;
+    }
+
+    public MongoClientSettings.Builder builder() {
+        log.info("Mongo pool min/max: {}/{}, read preference: {}, write concern: {}, compressors: {}",
+                appValues.getMongoPoolMinSize(), appValues.getMongoPoolMaxSize(), appValues.getMongoReadPreference(),
+                appValues.getMongoWriteConcern(), appValues.getMongoCompressors());
+        return MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(appValues.getMongoConnectionString()))
+                .applyToConnectionPoolSettings(pool -> {
+                    pool.minSize(appValues.getMongoPoolMinSize())
+                            .maxSize(appValues.getMongoPoolMaxSize())
+                            .maxWaitTime(appValues.getMongoPoolMaxWaitMs(), TimeUnit.MILLISECONDS)
+                            .maxConnectionIdleTime(appValues.getMongoPoolMaxIdleMs(), TimeUnit.MILLISECONDS)
+                            .addConnectionPoolListener(this.poolListener);
+                })
+                .applyToSocketSettings(socket -> socket
+                        .connectTimeout(appValues.getMongoConnectTimeoutMs(), TimeUnit.MILLISECONDS)
+                        .readTimeout(appValues.getMongoSocketTimeoutMs(), TimeUnit.MILLISECONDS))
+                .addCommandListener(this.commandMetrics)
+                .compressorList(compressors(appValues.getMongoCompressors()))
+                .readPreference(ReadPreference.valueOf(appValues.getMongoReadPreference()))
+                .writeConcern(writeConcern(appValues.getMongoWriteConcern()));
+    }
+
+    public MongoClientSettings build() {
+        return this.builder().build();
+    }
+
+    private static List<MongoCompressor> compressors(String names) {
+        List<MongoCompressor> compressors = new ArrayList<>();
+        if (names == null || names.isBlank()) {
+            return compressors;
+        }
+        for (String name : names.split(",")) {
+            switch (name.trim().toLowerCase(Locale.ROOT)) {
+                case "zstd":
+                    compressors.add(MongoCompressor.createZstdCompressor());
+                    break;
+                case "snappy":
+                    compressors.add(MongoCompressor.createSnappyCompressor());
+                    break;
+                case "zlib":
+                    compressors.add(MongoCompressor.createZlibCompressor());
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported Mongo compressor: " + name);
+            }
+        }
+        return compressors;
+    }
+
+    private static WriteConcern writeConcern(String name) {
+        WriteConcern writeConcern = WriteConcern.valueOf(name);
+        if (writeConcern == null) {
+            throw new IllegalArgumentException("Unsupported Mongo write concern: " + name);
+        }
+        return writeConcern;
+    }
+}
@@ -7,6 +7,7 @@ import org.bson.types.Decimal128;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
@@ -18,12 +19,20 @@ import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 
+/**
+ * Blocking driver wiring. The "reactive" profile replaces it with
+ * {@link ReactiveMongoConfig}, so only one Mongo client is started.
+ */
 @Configuration
+@Profile("!reactive")
 public class MongoConfig extends AbstractMongoClientConfiguration {
 
     @Autowired
     private ApplicationValues appValues;
 
+    @Autowired
+    private MongoClientSettingsFactory settingsFactory;
+
     @Override
     protected String getDatabaseName() {
         return appValues.getMongoDB();
@@ -31,12 +40,7 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
 
     @Override
     public MongoClient mongoClient() {
-        if ("1".equals(appValues.getMongoAut())) {
-            return MongoClients.create("mongodb://" + appValues.getMongoUsr() + ":" + appValues.getMongoPwd() + "@"
-                    + appValues.getMongoHost() + ":27017/" + appValues.getMongoDB() + "?authSource=admin");
-        } else {
-            return MongoClients.create("mongodb://" + appValues.getMongoHost() + ":49156/" + appValues.getMongoDB());
-        }
+        return MongoClients.create(settingsFactory.build());
     }
 
     @Override
@@ -63,6 +67,10 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     @Bean
     @Override
     public MongoCustomConversions customConversions() {
+        return decimalConversions();
+    }
+
+    static MongoCustomConversions decimalConversions() {
         Converter<Decimal128, BigDecimal> decimal128ToBigDecimal = new Converter<>() {
             @Override
             public BigDecimal convert(Decimal128 s) {
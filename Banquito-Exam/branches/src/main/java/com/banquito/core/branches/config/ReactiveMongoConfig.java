@@ -0,0 +1,62 @@
+package com.banquito.core.branches.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.config.AbstractReactiveMongoConfiguration;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+/**
+ * Reactive driver wiring used by the "reactive" profile, in place of
+ * {@link MongoConfig}. Maps documents the same way as the blocking
+ * configuration and builds the reactive template the repositories use.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveMongoConfig extends AbstractReactiveMongoConfiguration {
+
+    @Autowired
+    private ApplicationValues appValues;
+
+    @Autowired
+    private MongoClientSettingsFactory settingsFactory;
+
+    @Override
+    protected String getDatabaseName() {
+        return appValues.getMongoDB();
+    }
+
+    @Override
+    public MongoClient reactiveMongoClient() {
+        return MongoClients.create(settingsFactory.build());
+    }
+
+    @Override
+    public boolean autoIndexCreation() {
+        return true;
+    }
+
+    @Bean
+    @Override
+    public MappingMongoConverter mappingMongoConverter(ReactiveMongoDatabaseFactory databaseFactory,
+            MongoCustomConversions customConversions, MongoMappingContext mappingContext) {
+        MappingMongoConverter converter = super.mappingMongoConverter(databaseFactory, customConversions,
+                mappingContext);
+        converter.setTypeMapper(new DefaultMongoTypeMapper(null));
+        return converter;
+    }
+
+    @Bean
+    @Override
+    public MongoCustomConversions customConversions() {
+        return MongoConfig.decimalConversions();
+    }
+}
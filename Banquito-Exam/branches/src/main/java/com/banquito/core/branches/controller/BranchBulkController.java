@@ -0,0 +1,167 @@
+package com.banquito.core.branches.controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.banquito.core.branches.controller.dto.BranchRQRS;
+import com.banquito.core.branches.controller.mapper.BranchMapper;
+import com.banquito.core.branches.model.Branch;
+import com.banquito.core.branches.model.BranchImportResult;
+import com.banquito.core.branches.service.BranchBulkService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/branches")
+public class BranchBulkController {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final BranchBulkService bulkService;
+    private final ObjectMapper objectMapper;
+
+    public BranchBulkController(BranchBulkService bulkService, ObjectMapper objectMapper) {
+        this.bulkService = bulkService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Imports a JSON array of branches. The array is read element by element
+     * with a streaming parser, so only the chunk being written is held in
+     * memory. Elements that do not map to a branch are reported as invalid; a
+     * body that is not an array, or breaks off mid-array, is rejected with 400
+     * and any chunk written before the break stays written.
+     */
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BranchImportResult>> importArray(InputStream body,
+            @RequestParam(name = "upsert", defaultValue = "false") boolean upsert) throws IOException {
+        log.info("Going to import branches from JSON array body");
+        try (JsonParser parser = this.objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                log.error("Bulk import body is not a JSON array");
+                return ResponseEntity.badRequest().build();
+            }
+            return ResponseEntity.ok(this.bulkService.importBranches(new ArrayElements(parser), upsert));
+        } catch (JsonProcessingException | UncheckedIOException e) {
+            log.error("Invalid JSON array in bulk import: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping(path = "/bulk", consumes = NDJSON)
+    public ResponseEntity<List<BranchImportResult>> importNdjson(InputStream body,
+            @RequestParam(name = "upsert", defaultValue = "false") boolean upsert) throws IOException {
+        log.info("Going to import branches from NDJSON body");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Iterator<Branch> iterator = reader.lines()
+                    .filter(line -> !line.isBlank())
+                    .map(this::parseLine)
+                    .iterator();
+            return ResponseEntity.ok(this.bulkService.importBranches(iterator, upsert));
+        }
+    }
+
+    @GetMapping(path = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "prefix", required = false) String prefix) {
+        log.info("Going to export branches with code prefix: {}", prefix);
+        StreamingResponseBody body = (OutputStream out) -> {
+            long count = 0;
+            try (Stream<Branch> branches = this.bulkService.streamBranches(prefix)) {
+                Iterator<Branch> iterator = branches.iterator();
+                while (iterator.hasNext()) {
+                    out.write(this.objectMapper.writeValueAsBytes(BranchMapper.mapToBranchRQRS(iterator.next())));
+                    out.write('\n');
+                    count++;
+                }
+            }
+            out.flush();
+            log.info("Exported {} branches", count);
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    /**
+     * Iterates the elements of the array the parser is positioned in.
+     */
+    private class ArrayElements implements Iterator<Branch> {
+
+        private final JsonParser parser;
+        private JsonToken next;
+
+        private ArrayElements(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null) {
+                try {
+                    this.next = this.parser.nextToken();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (this.next == null) {
+                    throw new UncheckedIOException(new IOException("Unexpected end of JSON array"));
+                }
+            }
+            return this.next != JsonToken.END_ARRAY;
+        }
+
+        @Override
+        public Branch next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.next = null;
+            try {
+                JsonNode element = this.parser.readValueAsTree();
+                if (!element.isObject()) {
+                    return null;
+                }
+                return BranchMapper.mapToBranch(objectMapper.treeToValue(element, BranchRQRS.class));
+            } catch (JsonMappingException e) {
+                log.debug("Invalid JSON array element: {}", e.getMessage());
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private Branch parseLine(String line) {
+        try {
+            return BranchMapper.mapToBranch(this.objectMapper.readValue(line, BranchRQRS.class));
+        } catch (JsonProcessingException e) {
+            log.debug("Invalid NDJSON line: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.banquito.core.branches.controller;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.banquito.core.branches.controller.dto.BranchBatchRS;
 import com.banquito.core.branches.controller.dto.BranchRQRS;
 import com.banquito.core.branches.controller.mapper.BranchMapper;
+import com.banquito.core.branches.controller.mapper.CursorMapper;
+import com.banquito.core.branches.controller.mapper.FieldsMapper;
 import com.banquito.core.branches.exception.CRUDException;
 import com.banquito.core.branches.model.Branch;
 import com.banquito.core.branches.service.BranchService;
@@ -21,8 +31,13 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/branches")
 public class BranchController {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BATCH_CODES = 200;
     
     private final BranchService branchService;
 
@@ -30,20 +45,83 @@ public class BranchController {
         this.branchService = branchService;
     }
 
+    /**
+     * Lists branches in code order, one keyset page at a time. Without limit
+     * the page holds up to {@value #MAX_PAGE_SIZE} branches, and the next
+     * cursor header is set while more remain.
+     */
     @GetMapping
-    public ResponseEntity<List<BranchRQRS>> obtainAll() {
-        log.info("Going to return all branches");
-        List<Branch> branches = this.branchService.getAll();
-        log.info("Returning {} branches", branches.size());
-        return ResponseEntity.ok(BranchMapper.mapToList(branches)); 
+    public ResponseEntity<List<BranchRQRS>> obtainAll(@RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Set<String> projection;
+        try {
+            projection = FieldsMapper.parse(fields, BranchMapper.FIELDS);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields requested: {}", fields);
+            return ResponseEntity.badRequest().build();
+        }
+        String afterCode;
+        try {
+            afterCode = CursorMapper.decode(after);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid cursor received: {}", after);
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = limit == null ? MAX_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        String etag = BranchMapper.mapToETag(this.branchService.getRevision(), afterCode, pageSize, projection);
+        if (BranchMapper.matchesNoneMatch(ifNoneMatch, etag)) {
+            log.info("Branches not modified since {}", etag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        List<Branch> branches = this.branchService.getPage(afterCode, pageSize + 1, projection);
+        if (branches.size() > pageSize) {
+            branches = branches.subList(0, pageSize);
+            String next = CursorMapper.encode(branches.get(pageSize - 1).getCode());
+            log.info("Returning page of {} branches, next cursor: {}", pageSize, next);
+            return ResponseEntity.ok().eTag(etag).header(NEXT_CURSOR_HEADER, next)
+                    .body(BranchMapper.mapToList(branches, projection));
+        }
+        log.info("Returning last page of {} branches", branches.size());
+        return ResponseEntity.ok().eTag(etag).body(BranchMapper.mapToList(branches, projection));
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<BranchBatchRS> obtainByCodes(@RequestParam(name = "codes") List<String> codes) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String code : codes) {
+            if (!code.isBlank()) {
+                requested.add(code.trim());
+            }
+        }
+        log.info("Going to find {} branches by code", requested.size());
+        if (requested.isEmpty() || requested.size() > MAX_BATCH_CODES) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Branch> branches = this.branchService.lookByCodes(requested);
+        return ResponseEntity.ok(BranchMapper.mapToBatch(requested, branches));
     }
 
     @GetMapping("/{code}")
-    public ResponseEntity<BranchRQRS> obtainByCode(@PathVariable(name = "code") String code) {
+    public ResponseEntity<BranchRQRS> obtainByCode(@PathVariable(name = "code") String code,
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Going to find branch by code: {}", code);
+        Set<String> projection;
+        try {
+            projection = FieldsMapper.parse(fields, BranchMapper.FIELDS);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields requested: {}", fields);
+            return ResponseEntity.badRequest().build();
+        }
         Branch branch = this.branchService.lookByCode(code);
         if (branch!=null) {
-            return ResponseEntity.ok(BranchMapper.mapToBranchRQRS(branch));
+            String etag = BranchMapper.mapToETag(branch);
+            if (BranchMapper.matchesNoneMatch(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return ResponseEntity.ok().eTag(etag).body(BranchMapper.mapToBranchRQRS(branch, projection));
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -62,10 +140,18 @@ public class BranchController {
     }
 
     @PutMapping("/{code}")
-    public  ResponseEntity<BranchRQRS> update(@PathVariable(name="code") String code, @RequestBody BranchRQRS branch) {
+    public  ResponseEntity<BranchRQRS> update(@PathVariable(name="code") String code, @RequestBody BranchRQRS branch,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            this.branchService.update(code, BranchMapper.mapToBranch(branch));
-            return ResponseEntity.ok(BranchMapper.mapToBranchRQRS(this.branchService.lookByCode(code)));
+            Long expectedVersion;
+            try {
+                expectedVersion = BranchMapper.mapFromETag(ifMatch);
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid If-Match header received: {}", ifMatch);
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            Branch updated = this.branchService.update(code, BranchMapper.mapToBranch(branch), expectedVersion);
+            return ResponseEntity.ok().eTag(BranchMapper.mapToETag(updated)).body(BranchMapper.mapToBranchRQRS(updated));
         } catch (CRUDException e){
             log.error("Error at update branch: {}", e.getMessage(), e);
             return ResponseEntity.status(e.getErrorCode()).build();
@@ -0,0 +1,175 @@
+package com.banquito.core.branches.controller;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.banquito.core.branches.controller.dto.BranchBatchRS;
+import com.banquito.core.branches.controller.dto.BranchRQRS;
+import com.banquito.core.branches.controller.mapper.BranchMapper;
+import com.banquito.core.branches.controller.mapper.CursorMapper;
+import com.banquito.core.branches.controller.mapper.FieldsMapper;
+import com.banquito.core.branches.exception.CRUDException;
+import com.banquito.core.branches.model.Branch;
+import com.banquito.core.branches.service.BranchReactiveService;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link BranchController}, active with the
+ * "reactive" profile. Keeps the same /api/v1/branches contract, except for
+ * the /bulk imports (see {@link #export}).
+ */
+@Slf4j
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/branches")
+public class BranchReactiveController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BATCH_CODES = 200;
+
+    private final BranchReactiveService branchService;
+
+    public BranchReactiveController(BranchReactiveService branchService) {
+        this.branchService = branchService;
+    }
+
+    /**
+     * Lists branches in code order, one keyset page at a time, like
+     * {@link BranchController#obtainAll}.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<List<BranchRQRS>>> obtainAll(
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Set<String> projection;
+        String afterCode;
+        try {
+            projection = FieldsMapper.parse(fields, BranchMapper.FIELDS);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields requested: {}", fields);
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        try {
+            afterCode = CursorMapper.decode(after);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid cursor received: {}", after);
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        int pageSize = limit == null ? MAX_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return this.branchService.getRevision().flatMap(revision -> {
+            String etag = BranchMapper.mapToETag(revision, afterCode, pageSize, projection);
+            if (BranchMapper.matchesNoneMatch(ifNoneMatch, etag)) {
+                log.info("Branches not modified since {}", etag);
+                return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<List<BranchRQRS>>build());
+            }
+            return this.branchService.getPage(afterCode, pageSize + 1, projection)
+                    .collectList()
+                    .map(branches -> {
+                        if (branches.size() > pageSize) {
+                            List<Branch> page = branches.subList(0, pageSize);
+                            return ResponseEntity.ok().eTag(etag)
+                                    .header(BranchController.NEXT_CURSOR_HEADER,
+                                            CursorMapper.encode(page.get(pageSize - 1).getCode()))
+                                    .body(BranchMapper.mapToList(page, projection));
+                        }
+                        return ResponseEntity.ok().eTag(etag).body(BranchMapper.mapToList(branches, projection));
+                    });
+        });
+    }
+
+    @GetMapping("/batch")
+    public Mono<ResponseEntity<BranchBatchRS>> obtainByCodes(@RequestParam(name = "codes") List<String> codes) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String code : codes) {
+            if (!code.isBlank()) {
+                requested.add(code.trim());
+            }
+        }
+        log.info("Going to find {} branches by code", requested.size());
+        if (requested.isEmpty() || requested.size() > MAX_BATCH_CODES) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return this.branchService.lookByCodes(requested)
+                .collectList()
+                .map(branches -> ResponseEntity.ok(BranchMapper.mapToBatch(requested, branches)));
+    }
+
+    @GetMapping("/{code}")
+    public Mono<ResponseEntity<BranchRQRS>> obtainByCode(@PathVariable(name = "code") String code,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("Going to find branch by code: {}", code);
+        return this.branchService.lookByCode(code)
+                .map(branch -> {
+                    String etag = BranchMapper.mapToETag(branch);
+                    if (BranchMapper.matchesNoneMatch(ifNoneMatch, etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<BranchRQRS>build();
+                    }
+                    return ResponseEntity.ok().eTag(etag).body(BranchMapper.mapToBranchRQRS(branch));
+                })
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Void>> create(@RequestBody BranchRQRS branch) {
+        log.info("Going to create a branch with info: {}", branch);
+        return this.branchService.create(BranchMapper.mapToBranch(branch))
+                .map(created -> ResponseEntity.ok().<Void>build())
+                .onErrorResume(CRUDException.class, e -> {
+                    log.error("Error at create branch: {}", e.getMessage(), e);
+                    return Mono.just(ResponseEntity.badRequest().build());
+                });
+    }
+
+    @PutMapping("/{code}")
+    public Mono<ResponseEntity<BranchRQRS>> update(@PathVariable(name = "code") String code,
+            @RequestBody BranchRQRS branch,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion;
+        try {
+            expectedVersion = BranchMapper.mapFromETag(ifMatch);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid If-Match header received: {}", ifMatch);
+            return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build());
+        }
+        return this.branchService.update(code, BranchMapper.mapToBranch(branch), expectedVersion)
+                .map(updated -> ResponseEntity.ok().eTag(BranchMapper.mapToETag(updated))
+                        .body(BranchMapper.mapToBranchRQRS(updated)))
+                .onErrorResume(CRUDException.class, e -> {
+                    log.error("Error at update branch: {}", e.getMessage(), e);
+                    return Mono.just(ResponseEntity.status(e.getErrorCode()).build());
+                });
+    }
+
+    /**
+     * Streams the branches as NDJSON, one line per branch as the cursor
+     * delivers it. The NDJSON and JSON array imports of
+     * {@link BranchBulkController} have no reactive counterpart yet: Spring
+     * Data MongoDB 4.0 has no reactive bulk operations to report per-element
+     * results with, so /bulk is only served by the blocking mode.
+     */
+    @GetMapping(path = "/export", produces = BranchBulkController.NDJSON)
+    public Flux<BranchRQRS> export(@RequestParam(name = "prefix", required = false) String prefix) {
+        log.info("Going to export branches with code prefix: {}", prefix);
+        return this.branchService.streamBranches(prefix).map(BranchMapper::mapToBranchRQRS);
+    }
+}
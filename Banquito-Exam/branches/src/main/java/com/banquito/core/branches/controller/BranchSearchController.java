@@ -0,0 +1,63 @@
+package com.banquito.core.branches.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.banquito.core.branches.controller.dto.BranchRQRS;
+import com.banquito.core.branches.controller.mapper.BranchMapper;
+import com.banquito.core.branches.model.Branch;
+import com.banquito.core.branches.search.BranchGeoIndex;
+import com.banquito.core.branches.search.BranchSearchIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/branches")
+public class BranchSearchController {
+
+    private static final int MAX_RESULTS = 50;
+
+    private final BranchSearchIndex searchIndex;
+    private final BranchGeoIndex geoIndex;
+
+    public BranchSearchController(BranchSearchIndex searchIndex, BranchGeoIndex geoIndex) {
+        this.searchIndex = searchIndex;
+        this.geoIndex = geoIndex;
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<BranchRQRS>> search(@RequestParam(name = "q") String text,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        log.debug("Searching branches by prefix: {}", text);
+        int size = Math.max(1, Math.min(limit, MAX_RESULTS));
+        return ResponseEntity.ok(BranchMapper.mapToList(this.searchIndex.search(text, size)));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<BranchRQRS>> nearby(@RequestParam(name = "lat") double latitude,
+            @RequestParam(name = "lon") double longitude,
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @RequestParam(name = "radiusKm", required = false) Double radiusKm) {
+        log.debug("Searching branches near {},{} within {} km", latitude, longitude, radiusKm);
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180 || (radiusKm != null && radiusKm <= 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+        int size = Math.max(1, Math.min(limit, MAX_RESULTS));
+        List<BranchGeoIndex.Nearby> nearby = this.geoIndex.nearest(latitude, longitude, size, radiusKm);
+        List<BranchRQRS> branches = new ArrayList<>(nearby.size());
+        for (BranchGeoIndex.Nearby near : nearby) {
+            Branch branch = near.getBranch();
+            BranchRQRS branchRQRS = BranchMapper.mapToBranchRQRS(branch);
+            branchRQRS.setDistanceKm(near.getDistanceKm());
+            branches.add(branchRQRS);
+        }
+        return ResponseEntity.ok(branches);
+    }
+}
@@ -0,0 +1,18 @@
+package com.banquito.core.branches.controller.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BranchBatchRS {
+
+    private List<BranchRQRS> branches;
+    private List<String> missing;
+}
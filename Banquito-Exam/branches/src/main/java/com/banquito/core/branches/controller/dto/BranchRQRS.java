@@ -1,5 +1,7 @@
 package com.banquito.core.branches.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,10 +11,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class BranchRQRS {
     
     private String id;
     private String code;
     private String name;
+    private Double latitude;
+    private Double longitude;
+    private Double distanceKm;
+    private Long version;
 
 }
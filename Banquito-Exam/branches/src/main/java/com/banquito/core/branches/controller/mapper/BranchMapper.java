@@ -1,35 +1,181 @@
 package com.banquito.core.branches.controller.mapper;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.banquito.core.branches.controller.dto.BranchBatchRS;
 import com.banquito.core.branches.controller.dto.BranchRQRS;
 import com.banquito.core.branches.model.Branch;
 
 public class BranchMapper {
+
+    public static final Set<String> FIELDS = Set.of("id", "code", "name", "latitude", "longitude", "version");
     
     public static BranchRQRS mapToBranchRQRS(Branch branch) {
         return BranchRQRS.builder()
             .id(branch.getId())
             .code(branch.getCode())
-            .name(branch.getName()).build();
+            .name(branch.getName())
+            .latitude(branch.getLocation() == null ? null : branch.getLocation().getY())
+            .longitude(branch.getLocation() == null ? null : branch.getLocation().getX())
+            .version(branch.getVersion()).build();
+    }
+
+    public static BranchRQRS mapToBranchRQRS(Branch branch, Set<String> fields) {
+        if (fields == null) {
+            return mapToBranchRQRS(branch);
+        }
+        BranchRQRS branchRQRS = new BranchRQRS();
+        if (fields.contains("id")) {
+            branchRQRS.setId(branch.getId());
+        }
+        if (fields.contains("code")) {
+            branchRQRS.setCode(branch.getCode());
+        }
+        if (fields.contains("name")) {
+            branchRQRS.setName(branch.getName());
+        }
+        if (fields.contains("latitude") && branch.getLocation() != null) {
+            branchRQRS.setLatitude(branch.getLocation().getY());
+        }
+        if (fields.contains("longitude") && branch.getLocation() != null) {
+            branchRQRS.setLongitude(branch.getLocation().getX());
+        }
+        if (fields.contains("version")) {
+            branchRQRS.setVersion(branch.getVersion());
+        }
+        return branchRQRS;
     }
 
     public static List<BranchRQRS> mapToList(List<Branch> branches) {
-        List<BranchRQRS> branchesRQRS = new ArrayList<>();
-        if (branches!=null) {
-            for (Branch branch : branches) {
-                branchesRQRS.add(mapToBranchRQRS(branch));
+        if (branches==null) {
+            return new ArrayList<>();
+        }
+        List<BranchRQRS> branchesRQRS = new ArrayList<>(branches.size());
+        for (Branch branch : branches) {
+            branchesRQRS.add(mapToBranchRQRS(branch));
+        }
+        return branchesRQRS;
+    }
+
+    public static String mapToETag(Branch branch) {
+        return mapToETag(branch.getVersion() == null ? 0L : branch.getVersion());
+    }
+
+    public static String mapToETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Reads the version out of an If-Match entity tag. If-Match uses the
+     * strong comparison, so a weak tag never matches.
+     *
+     * @return the version, or null when any version is accepted
+     * @throws IllegalArgumentException when the tag is weak or not a version
+     */
+    public static Long mapFromETag(String etag) {
+        if (etag == null || etag.isBlank() || "*".equals(etag.trim())) {
+            return null;
+        }
+        String value = etag.trim();
+        if (value.startsWith("W/")) {
+            throw new IllegalArgumentException("Weak entity tag: " + value);
+        }
+        return Long.valueOf(value.replace("\"", ""));
+    }
+
+    /**
+     * Tags one listing page: the collection revision plus a hash of the query
+     * that selected the page, so pages and projections of the same revision
+     * get different tags.
+     */
+    public static String mapToETag(long revision, String afterCode, int pageSize, Set<String> fields) {
+        String query = afterCode + "|" + pageSize + "|" + (fields == null ? "*" : new TreeSet<>(fields));
+        return "\"" + revision + "-" + Integer.toHexString(query.hashCode()) + "\"";
+    }
+
+    /**
+     * Evaluates an If-None-Match header against the current entity tag as
+     * RFC 9110 section 13.1.2 asks: "*" matches any tag, otherwise the header
+     * is a list of entity tags compared with the weak comparison, so W/ and
+     * strong forms of the same tag match.
+     *
+     * @return true when the header matches and a 304 can be returned
+     */
+    public static boolean matchesNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        if ("*".equals(ifNoneMatch.trim())) {
+            return true;
+        }
+        String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        int position = 0;
+        while (position < ifNoneMatch.length()) {
+            char c = ifNoneMatch.charAt(position);
+            if (c == ' ' || c == '\t' || c == ',') {
+                position++;
+                continue;
+            }
+            if (ifNoneMatch.startsWith("W/", position)) {
+                position += 2;
+            }
+            if (position >= ifNoneMatch.length() || ifNoneMatch.charAt(position) != '"') {
+                return false;
+            }
+            int end = ifNoneMatch.indexOf('"', position + 1);
+            if (end < 0) {
+                return false;
+            }
+            if (ifNoneMatch.substring(position, end + 1).equals(opaqueTag)) {
+                return true;
             }
+            position = end + 1;
+        }
+        return false;
+    }
+
+    public static List<BranchRQRS> mapToList(List<Branch> branches, Set<String> fields) {
+        if (fields == null) {
+            return mapToList(branches);
+        }
+        List<BranchRQRS> branchesRQRS = new ArrayList<>(branches.size());
+        for (Branch branch : branches) {
+            branchesRQRS.add(mapToBranchRQRS(branch, fields));
         }
         return branchesRQRS;
     }
 
+    public static BranchBatchRS mapToBatch(Collection<String> codes, List<Branch> branches) {
+        Set<String> found = new HashSet<>();
+        for (Branch branch : branches) {
+            found.add(branch.getCode());
+        }
+        List<String> missing = new ArrayList<>();
+        for (String code : codes) {
+            if (!found.contains(code)) {
+                missing.add(code);
+            }
+        }
+        return BranchBatchRS.builder()
+            .branches(mapToList(branches))
+            .missing(missing).build();
+    }
+
     public static Branch mapToBranch(BranchRQRS branchRQRS) {
         Branch branch = new Branch();
         branch.setId(branchRQRS.getId());
         branch.setCode(branchRQRS.getCode());
         branch.setName(branchRQRS.getName());
+        if (branchRQRS.getLatitude() != null && branchRQRS.getLongitude() != null) {
+            branch.setLocation(new GeoJsonPoint(branchRQRS.getLongitude(), branchRQRS.getLatitude()));
+        }
         return branch;
     }
 }
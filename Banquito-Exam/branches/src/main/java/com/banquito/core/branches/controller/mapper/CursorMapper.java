@@ -0,0 +1,21 @@
+package com.banquito.core.branches.controller.mapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the last branch code of a page as an opaque cursor token, and back.
+ */
+public class CursorMapper {
+
+    public static String encode(String code) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(code.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,33 @@
+package com.banquito.core.branches.controller.mapper;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Parses the comma separated fields query parameter used for sparse
+ * fieldsets.
+ */
+public class FieldsMapper {
+
+    /**
+     * @return the requested fields, or null when every field was requested
+     * @throws IllegalArgumentException when a field is not in allowed
+     */
+    public static Set<String> parse(String fields, Set<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            requested.add(name);
+        }
+        return requested.isEmpty() ? null : requested;
+    }
+}
@@ -0,0 +1,170 @@
+package com.banquito.core.branches.metrics;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Driver command listener publishing per command and collection latency
+ * histograms, returned document counts and failures, tagged with the
+ * repository method that issued the command. Commands slower than the
+ * configured threshold are logged and kept as samples.
+ */
+@Slf4j
+@Component
+public class MongoCommandMetrics implements CommandListener {
+
+    private final MeterRegistry registry;
+    private final long slowThresholdMs;
+    private final int maxSlowSamples;
+    private final Map<Integer, Started> inFlight = new ConcurrentHashMap<>();
+    private final Deque<SlowCommand> slowCommands = new ArrayDeque<>();
+
+    public MongoCommandMetrics(MeterRegistry registry,
+            @Value("${banquito.mongo.metrics.slow-threshold-ms:100}") long slowThresholdMs,
+            @Value("${banquito.mongo.metrics.slow-samples:100}") int maxSlowSamples) {
+        this.registry = registry;
+        this.slowThresholdMs = slowThresholdMs;
+        this.maxSlowSamples = maxSlowSamples;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        this.inFlight.put(event.getRequestId(),
+                new Started(collection(event.getCommandName(), event.getCommand()), RepositoryMethodAspect.current()));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        Started started = this.inFlight.remove(event.getRequestId());
+        if (started == null) {
+            return;
+        }
+        long elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        this.timer(event.getCommandName(), started, "success").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("mongodb.command.documents")
+                .description("Documents returned or affected by Mongo commands")
+                .tag("command", event.getCommandName())
+                .tag("collection", started.collection)
+                .tag("method", started.method)
+                .register(this.registry)
+                .record(documents(event.getResponse()));
+        this.checkSlow(event.getCommandName(), started, elapsedNanos, "success");
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        Started started = this.inFlight.remove(event.getRequestId());
+        if (started == null) {
+            return;
+        }
+        long elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        this.timer(event.getCommandName(), started, "failure").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.warn("Mongo command {} on {} issued by {} failed: {}", event.getCommandName(), started.collection,
+                started.method, event.getThrowable().getMessage());
+        this.checkSlow(event.getCommandName(), started, elapsedNanos, "failure");
+    }
+
+    public List<SlowCommand> getSlowCommands() {
+        synchronized (this.slowCommands) {
+            return new ArrayList<>(this.slowCommands);
+        }
+    }
+
+    private Timer timer(String commandName, Started started, String status) {
+        return Timer.builder("mongodb.command")
+                .description("Latency of Mongo commands")
+                .tag("command", commandName)
+                .tag("collection", started.collection)
+                .tag("method", started.method)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(this.registry);
+    }
+
+    private void checkSlow(String commandName, Started started, long elapsedNanos, String status) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMs < this.slowThresholdMs) {
+            return;
+        }
+        log.warn("Slow Mongo command {} on {} issued by {} took {} ms", commandName, started.collection,
+                started.method, elapsedMs);
+        synchronized (this.slowCommands) {
+            if (this.slowCommands.size() >= this.maxSlowSamples) {
+                this.slowCommands.removeFirst();
+            }
+            this.slowCommands.addLast(
+                    new SlowCommand(Instant.now(), commandName, started.collection, started.method, elapsedMs, status));
+        }
+    }
+
+    /**
+     * Most commands name their collection as the command value; getMore
+     * carries the cursor id there and the collection in its own field.
+     */
+    private static String collection(String commandName, BsonDocument command) {
+        BsonValue target = command.get("getMore".equals(commandName) ? "collection" : commandName);
+        return target != null && target.isString() ? target.asString().getValue() : "none";
+    }
+
+    private static int documents(BsonDocument response) {
+        if (response == null) {
+            return 0;
+        }
+        if (response.isDocument("cursor")) {
+            BsonDocument cursor = response.getDocument("cursor");
+            if (cursor.isArray("firstBatch")) {
+                return cursor.getArray("firstBatch").size();
+            }
+            if (cursor.isArray("nextBatch")) {
+                return cursor.getArray("nextBatch").size();
+            }
+        }
+        if (response.isNumber("n")) {
+            return response.getNumber("n").intValue();
+        }
+        if (response.containsKey("value")) {
+            return response.get("value").isNull() ? 0 : 1;
+        }
+        return 0;
+    }
+
+    @AllArgsConstructor
+    private static class Started {
+        private final String collection;
+        private final String method;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SlowCommand {
+        private final Instant at;
+        private final String command;
+        private final String collection;
+        private final String method;
+        private final long elapsedMs;
+        private final String status;
+    }
+}
@@ -0,0 +1,42 @@
+package com.banquito.core.branches.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.banquito.core.branches.repository.BranchRepository;
+
+/**
+ * Records which repository method is running on the current thread so the
+ * Mongo command listener can tag the commands it issues.
+ */
+@Aspect
+@Component
+public class RepositoryMethodAspect {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    public static String current() {
+        String method = CURRENT.get();
+        return method == null ? "none" : method;
+    }
+
+    @Around("this(com.banquito.core.branches.repository.BranchRepository)"
+            + " || within(com.banquito.core.branches.repository..*)")
+    public Object tag(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (CURRENT.get() != null) {
+            // keep the outermost repository method, e.g. a custom fragment called through BranchRepository
+            return joinPoint.proceed();
+        }
+        String owner = joinPoint.getThis() instanceof BranchRepository
+                ? BranchRepository.class.getSimpleName()
+                : joinPoint.getSignature().getDeclaringType().getSimpleName();
+        CURRENT.set(owner + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+}
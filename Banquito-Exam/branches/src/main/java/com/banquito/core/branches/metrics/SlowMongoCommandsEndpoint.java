@@ -0,0 +1,26 @@
+package com.banquito.core.branches.metrics;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the latest slow Mongo command samples at /actuator/mongoslow.
+ */
+@Component
+@Endpoint(id = "mongoslow")
+public class SlowMongoCommandsEndpoint {
+
+    private final MongoCommandMetrics commandMetrics;
+
+    public SlowMongoCommandsEndpoint(MongoCommandMetrics commandMetrics) {
+        this.commandMetrics = commandMetrics;
+    }
+
+    @ReadOperation
+    public List<MongoCommandMetrics.SlowCommand> slowCommands() {
+        return this.commandMetrics.getSlowCommands();
+    }
+}
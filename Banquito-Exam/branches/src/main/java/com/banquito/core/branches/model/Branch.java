@@ -1,6 +1,10 @@
 package com.banquito.core.branches.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -17,5 +21,9 @@ public class Branch {
     @Indexed(name = "idxu_branches_code", unique = true)
     private String code;
     private String name;
+    @GeoSpatialIndexed(name = "idx_branches_location", type = GeoSpatialIndexType.GEO_2DSPHERE)
+    private GeoJsonPoint location;
+    @Version
+    private Long version;
 }
 
@@ -0,0 +1,20 @@
+package com.banquito.core.branches.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BranchImportResult {
+
+    public enum Status {
+        INSERTED, UPDATED, DUPLICATE, INVALID, FAILED
+    }
+
+    private int index;
+    private String code;
+    private Status status;
+    private String message;
+}
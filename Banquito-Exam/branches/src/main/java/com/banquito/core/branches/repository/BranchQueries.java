@@ -0,0 +1,85 @@
+package com.banquito.core.branches.repository;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Query and update documents shared by the blocking and reactive custom
+ * branch repositories.
+ */
+class BranchQueries {
+
+    static final String REVISION_COLLECTION = "branches_meta";
+    static final String REVISION_DOCUMENT_ID = "branches";
+    static final String REVISION = "revision";
+
+    static Query byCodeAndVersion(String code, Long expectedVersion) {
+        Criteria criteria = Criteria.where("code").is(code);
+        if (expectedVersion != null) {
+            if (expectedVersion == 0L) {
+                // documents written before versioning was introduced have no version field
+                criteria.orOperator(Criteria.where("version").is(0L), Criteria.where("version").exists(false));
+            } else {
+                criteria.and("version").is(expectedVersion);
+            }
+        }
+        return Query.query(criteria);
+    }
+
+    static Update detailsUpdate(String name, GeoJsonPoint location) {
+        Update update = new Update().set("name", name).inc("version", 1L);
+        if (location != null) {
+            update.set("location", location);
+        }
+        return update;
+    }
+
+    static Query projected(String afterCode, int limit, Set<String> fields) {
+        Query query = new Query();
+        if (afterCode != null) {
+            query.addCriteria(Criteria.where("code").gt(afterCode));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, "code"));
+        if (limit > 0) {
+            query.limit(limit);
+            query.fields().include("code");
+        }
+        for (String field : fields) {
+            if ("latitude".equals(field) || "longitude".equals(field)) {
+                query.fields().include("location");
+            } else if (!"id".equals(field)) {
+                query.fields().include(field);
+            }
+        }
+        if (fields.contains("id")) {
+            query.fields().include("_id");
+        } else {
+            query.fields().exclude("_id");
+        }
+        return query;
+    }
+
+    static Query byCodePrefix(String codePrefix, int batchSize) {
+        Query query = new Query();
+        if (codePrefix != null && !codePrefix.isBlank()) {
+            query.addCriteria(Criteria.where("code").regex("^" + Pattern.quote(codePrefix)));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, "code"));
+        query.cursorBatchSize(batchSize);
+        return query;
+    }
+
+    static Query revision() {
+        return Query.query(Criteria.where("_id").is(REVISION_DOCUMENT_ID));
+    }
+
+    static Update revisionIncrement() {
+        return new Update().inc(REVISION, 1L);
+    }
+}
@@ -1,11 +1,20 @@
 package com.banquito.core.branches.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import com.banquito.core.branches.model.Branch;
 
-public interface BranchRepository extends MongoRepository<Branch, String>{
+public interface BranchRepository extends MongoRepository<Branch, String>, BranchRepositoryCustom {
     
     Branch findByCode(String code);
-}
 
+    List<Branch> findByCodeIn(Collection<String> codes);
+
+    List<Branch> findAllBy(Pageable pageable);
+
+    List<Branch> findByCodeGreaterThan(String code, Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package com.banquito.core.branches.repository;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.banquito.core.branches.model.Branch;
+
+public interface BranchRepositoryCustom {
+
+    /**
+     * Atomically sets the name, and the location when given, of the branch
+     * with the given code and bumps its version, in a single findAndModify
+     * round trip.
+     *
+     * @param expectedVersion when not null, the update only applies if the
+     *                        stored version matches
+     * @return the updated branch, or null when no branch matched
+     */
+    Branch updateDetails(String code, String name, GeoJsonPoint location, Long expectedVersion);
+
+    /**
+     * Reads branches ordered by code, returning only the given fields. The
+     * code is always read when paginating because it is the page cursor.
+     *
+     * @param afterCode exclusive lower bound, or null to start from the first
+     * @param limit     maximum number of branches, or 0 for no limit
+     */
+    List<Branch> findProjected(String afterCode, int limit, Set<String> fields);
+}
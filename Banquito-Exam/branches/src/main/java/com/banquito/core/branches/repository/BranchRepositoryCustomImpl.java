@@ -0,0 +1,33 @@
+package com.banquito.core.branches.repository;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.banquito.core.branches.model.Branch;
+
+public class BranchRepositoryCustomImpl implements BranchRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public BranchRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Branch updateDetails(String code, String name, GeoJsonPoint location, Long expectedVersion) {
+        return this.mongoTemplate.findAndModify(
+                BranchQueries.byCodeAndVersion(code, expectedVersion),
+                BranchQueries.detailsUpdate(name, location),
+                FindAndModifyOptions.options().returnNew(true),
+                Branch.class);
+    }
+
+    @Override
+    public List<Branch> findProjected(String afterCode, int limit, Set<String> fields) {
+        return this.mongoTemplate.find(BranchQueries.projected(afterCode, limit, fields), Branch.class);
+    }
+}
@@ -0,0 +1,41 @@
+package com.banquito.core.branches.repository;
+
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Keeps a single revision counter for the branches collection, bumped on
+ * every write, so listings can be tagged without reading every document.
+ */
+@Repository
+@Profile("!reactive")
+public class BranchRevisionRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public BranchRevisionRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public long current() {
+        Document revision = this.mongoTemplate.findById(BranchQueries.REVISION_DOCUMENT_ID, Document.class,
+                BranchQueries.REVISION_COLLECTION);
+        return revision(revision);
+    }
+
+    public long increment() {
+        Document revision = this.mongoTemplate.findAndModify(
+                BranchQueries.revision(),
+                BranchQueries.revisionIncrement(),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                Document.class, BranchQueries.REVISION_COLLECTION);
+        return revision(revision);
+    }
+
+    static long revision(Document revision) {
+        return revision == null ? 0L : revision.get(BranchQueries.REVISION, Number.class).longValue();
+    }
+}
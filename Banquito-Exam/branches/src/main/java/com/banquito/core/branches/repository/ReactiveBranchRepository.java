@@ -0,0 +1,22 @@
+package com.banquito.core.branches.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+import com.banquito.core.branches.model.Branch;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBranchRepository extends ReactiveMongoRepository<Branch, String>, ReactiveBranchRepositoryCustom {
+
+    Mono<Branch> findByCode(String code);
+
+    Flux<Branch> findByCodeIn(Collection<String> codes);
+
+    Flux<Branch> findAllBy(Pageable pageable);
+
+    Flux<Branch> findByCodeGreaterThan(String code, Pageable pageable);
+}
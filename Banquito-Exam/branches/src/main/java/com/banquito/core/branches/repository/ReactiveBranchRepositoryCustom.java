@@ -0,0 +1,30 @@
+package com.banquito.core.branches.repository;
+
+import java.util.Set;
+
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.banquito.core.branches.model.Branch;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBranchRepositoryCustom {
+
+    /**
+     * Reactive counterpart of {@link BranchRepositoryCustom#updateDetails}.
+     */
+    Mono<Branch> updateDetails(String code, String name, GeoJsonPoint location, Long expectedVersion);
+
+    /**
+     * Reactive counterpart of {@link BranchRepositoryCustom#findProjected}.
+     */
+    Flux<Branch> findProjected(String afterCode, int limit, Set<String> fields);
+
+    /**
+     * Reads the branches whose code starts with the given prefix, or all of
+     * them when it is blank, ordered by code and fetched batchSize documents
+     * per cursor round trip.
+     */
+    Flux<Branch> findByCodePrefix(String codePrefix, int batchSize);
+}
@@ -0,0 +1,40 @@
+package com.banquito.core.branches.repository;
+
+import java.util.Set;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.banquito.core.branches.model.Branch;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactiveBranchRepositoryCustomImpl implements ReactiveBranchRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveBranchRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<Branch> updateDetails(String code, String name, GeoJsonPoint location, Long expectedVersion) {
+        return this.mongoTemplate.findAndModify(
+                BranchQueries.byCodeAndVersion(code, expectedVersion),
+                BranchQueries.detailsUpdate(name, location),
+                FindAndModifyOptions.options().returnNew(true),
+                Branch.class);
+    }
+
+    @Override
+    public Flux<Branch> findProjected(String afterCode, int limit, Set<String> fields) {
+        return this.mongoTemplate.find(BranchQueries.projected(afterCode, limit, fields), Branch.class);
+    }
+
+    @Override
+    public Flux<Branch> findByCodePrefix(String codePrefix, int batchSize) {
+        return this.mongoTemplate.find(BranchQueries.byCodePrefix(codePrefix, batchSize), Branch.class);
+    }
+}
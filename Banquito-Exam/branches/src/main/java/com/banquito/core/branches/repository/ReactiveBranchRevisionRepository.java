@@ -0,0 +1,41 @@
+package com.banquito.core.branches.repository;
+
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link BranchRevisionRepository}, reading and
+ * bumping the same counter document.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveBranchRevisionRepository {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveBranchRevisionRepository(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public Mono<Long> current() {
+        return this.mongoTemplate.findById(BranchQueries.REVISION_DOCUMENT_ID, Document.class,
+                BranchQueries.REVISION_COLLECTION)
+                .map(BranchRevisionRepository::revision)
+                .defaultIfEmpty(0L);
+    }
+
+    public Mono<Long> increment() {
+        return this.mongoTemplate.findAndModify(
+                BranchQueries.revision(),
+                BranchQueries.revisionIncrement(),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                Document.class, BranchQueries.REVISION_COLLECTION)
+                .map(BranchRevisionRepository::revision)
+                .defaultIfEmpty(0L);
+    }
+}
@@ -0,0 +1,203 @@
+package com.banquito.core.branches.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Component;
+
+import com.banquito.core.branches.model.Branch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * In-memory grid index over branch coordinates. Branches are bucketed in
+ * fixed-size lat/lon cells and proximity queries walk rings of cells around
+ * the query point, falling back to a full scan when the rings get too wide.
+ * Filled at startup by {@link BranchIndexLoader}.
+ */
+@Component
+public class BranchGeoIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180;
+    private static final int MAX_RINGS = 64;
+
+    private final double cellSize;
+    private final int columns;
+    private final double seamDegrees;
+    private final Map<Long, Map<String, Branch>> cells = new ConcurrentHashMap<>();
+    private final Map<String, Long> cellByCode = new ConcurrentHashMap<>();
+
+    public BranchGeoIndex(@Value("${banquito.branches.geo.cell-size-degrees:0.05}") double cellSize) {
+        this.cellSize = cellSize;
+        // columns wrap at the antimeridian; the last one is narrower when the size does not divide 360
+        this.columns = (int) Math.ceil(360 / cellSize - 1e-9);
+        this.seamDegrees = this.columns * cellSize - 360;
+    }
+
+    public synchronized void put(Branch branch) {
+        if (branch == null || branch.getCode() == null) {
+            return;
+        }
+        this.remove(branch.getCode());
+        GeoJsonPoint location = branch.getLocation();
+        if (location == null) {
+            return;
+        }
+        long cell = this.cell(location.getY(), location.getX());
+        this.cells.computeIfAbsent(cell, key -> new ConcurrentHashMap<>()).put(branch.getCode(), branch);
+        this.cellByCode.put(branch.getCode(), cell);
+    }
+
+    public synchronized void remove(String code) {
+        Long cell = this.cellByCode.remove(code);
+        if (cell == null) {
+            return;
+        }
+        Map<String, Branch> branches = this.cells.get(cell);
+        if (branches != null) {
+            branches.remove(code);
+            if (branches.isEmpty()) {
+                this.cells.remove(cell);
+            }
+        }
+    }
+
+    /**
+     * Returns up to limit branches ordered by distance to the given point,
+     * optionally restricted to those within radiusKm.
+     */
+    public List<Nearby> nearest(double latitude, double longitude, int limit, Double radiusKm) {
+        List<Nearby> found = new ArrayList<>();
+        if (limit <= 0 || this.cellByCode.isEmpty()) {
+            return found;
+        }
+        int row = this.row(latitude);
+        int column = this.column(longitude);
+        int seen = 0;
+        for (int ring = 0; ring <= MAX_RINGS; ring++) {
+            seen += this.collectRing(row, column, ring, latitude, longitude, radiusKm, found);
+            double outsideKm = this.outsideRingKm(row, ring);
+            found.sort(Comparator.comparingDouble(Nearby::getDistanceKm));
+            if (found.size() >= limit && found.get(limit - 1).getDistanceKm() <= outsideKm) {
+                return new ArrayList<>(found.subList(0, limit));
+            }
+            if ((radiusKm != null && outsideKm > radiusKm) || seen == this.cellByCode.size()) {
+                return new ArrayList<>(found.subList(0, Math.min(limit, found.size())));
+            }
+        }
+        return this.scan(latitude, longitude, limit, radiusKm);
+    }
+
+    public int size() {
+        return this.cellByCode.size();
+    }
+
+    /**
+     * Lower bound of the distance from a point in the given row to any point
+     * outside the given ring. Such a point is either ring rows away, or within
+     * the ring rows and ring columns away; the east-west bound uses the
+     * latitude of the ring farthest from the equator, where degrees of
+     * longitude are shortest.
+     */
+    private double outsideRingKm(int row, int ring) {
+        double northSouthKm = ring * this.cellSize * KM_PER_DEGREE;
+        double south = (row - ring) * this.cellSize;
+        double north = (row + ring + 1) * this.cellSize;
+        double maxLatitude = Math.min(90, Math.max(Math.abs(south), Math.abs(north)));
+        double longitudeDegrees = Math.min(180, Math.max(0, ring * this.cellSize - this.seamDegrees));
+        // haversine with no latitude difference and both ends at maxLatitude
+        double eastWestKm = 2 * EARTH_RADIUS_KM * Math.asin(Math.cos(Math.toRadians(maxLatitude))
+                * Math.sin(Math.toRadians(longitudeDegrees) / 2));
+        return Math.min(northSouthKm, eastWestKm);
+    }
+
+    private int collectRing(int row, int column, int ring, double latitude, double longitude, Double radiusKm,
+            List<Nearby> found) {
+        int seen = 0;
+        for (int r = row - ring; r <= row + ring; r++) {
+            for (int offset = -ring; offset <= ring; offset++) {
+                if (Math.abs(r - row) != ring && Math.abs(offset) != ring) {
+                    continue;
+                }
+                int c = Math.floorMod(column + offset, this.columns);
+                if (this.columnDistance(column, c) != Math.abs(offset)
+                        || (offset < 0 && 2 * -offset == this.columns)) {
+                    // reached the same column the other way round the globe
+                    continue;
+                }
+                Map<String, Branch> branches = this.cells.get(key(r, c));
+                if (branches == null) {
+                    continue;
+                }
+                for (Branch branch : branches.values()) {
+                    seen++;
+                    double distance = distanceKm(latitude, longitude, branch.getLocation());
+                    if (radiusKm == null || distance <= radiusKm) {
+                        found.add(new Nearby(branch, distance));
+                    }
+                }
+            }
+        }
+        return seen;
+    }
+
+    private List<Nearby> scan(double latitude, double longitude, int limit, Double radiusKm) {
+        List<Nearby> found = new ArrayList<>();
+        for (Map<String, Branch> branches : this.cells.values()) {
+            for (Branch branch : branches.values()) {
+                double distance = distanceKm(latitude, longitude, branch.getLocation());
+                if (radiusKm == null || distance <= radiusKm) {
+                    found.add(new Nearby(branch, distance));
+                }
+            }
+        }
+        found.sort(Comparator.comparingDouble(Nearby::getDistanceKm));
+        return new ArrayList<>(found.subList(0, Math.min(limit, found.size())));
+    }
+
+    private long cell(double latitude, double longitude) {
+        return key(this.row(latitude), this.column(longitude));
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor(latitude / this.cellSize);
+    }
+
+    private int column(double longitude) {
+        double east = ((longitude % 360) + 360) % 360;
+        return Math.min((int) Math.floor(east / this.cellSize), this.columns - 1);
+    }
+
+    private int columnDistance(int from, int to) {
+        int distance = Math.abs(to - from);
+        return Math.min(distance, this.columns - distance);
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    static double distanceKm(double latitude, double longitude, GeoJsonPoint point) {
+        double lat1 = Math.toRadians(latitude);
+        double lat2 = Math.toRadians(point.getY());
+        double deltaLat = lat2 - lat1;
+        double deltaLon = Math.toRadians(point.getX() - longitude);
+        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2)
+                + Math.cos(lat1) * Math.cos(lat2) * Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Nearby {
+        private final Branch branch;
+        private final double distanceKm;
+    }
+}
@@ -0,0 +1,54 @@
+package com.banquito.core.branches.search;
+
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.banquito.core.branches.model.Branch;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fills the search and geo indexes with a single pass over the branches
+ * collection. {@link ReactiveBranchIndexLoader} does the same with the
+ * reactive driver under the "reactive" profile.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class BranchIndexLoader implements SmartInitializingSingleton {
+
+    private final MongoTemplate mongoTemplate;
+    private final BranchSearchIndex searchIndex;
+    private final BranchGeoIndex geoIndex;
+
+    public BranchIndexLoader(MongoTemplate mongoTemplate, BranchSearchIndex searchIndex, BranchGeoIndex geoIndex) {
+        this.mongoTemplate = mongoTemplate;
+        this.searchIndex = searchIndex;
+        this.geoIndex = geoIndex;
+    }
+
+    /**
+     * Called once every singleton exists and before the web server starts, so
+     * /search and /nearby never answer from half-filled indexes.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.load();
+    }
+
+    public void load() {
+        log.info("Building branch search and geo indexes");
+        try (Stream<Branch> branches = this.mongoTemplate.stream(new Query(), Branch.class)) {
+            branches.forEach(branch -> {
+                this.searchIndex.put(branch);
+                this.geoIndex.put(branch);
+            });
+        }
+        log.info("Branch indexes built with {} branches, {} located", this.searchIndex.size(), this.geoIndex.size());
+    }
+}
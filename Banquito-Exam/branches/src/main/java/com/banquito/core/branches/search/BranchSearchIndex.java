@@ -0,0 +1,104 @@
+package com.banquito.core.branches.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.banquito.core.branches.model.Branch;
+
+/**
+ * In-memory prefix index over branch codes and normalized branch names, used
+ * for type-ahead search. Terms are kept in sorted skip lists so a prefix query
+ * is a range scan; every word of the name starts a searchable term. The index
+ * is filled at startup by {@link BranchIndexLoader} and kept current by the
+ * branch write paths.
+ */
+@Component
+public class BranchSearchIndex {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final ConcurrentSkipListMap<String, Branch> codeTerms = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Branch> nameTerms = new ConcurrentSkipListMap<>();
+    private final Map<String, List<String>> nameTermsByCode = new ConcurrentHashMap<>();
+
+    public synchronized void put(Branch branch) {
+        if (branch == null || branch.getCode() == null) {
+            return;
+        }
+        String code = branch.getCode();
+        this.remove(code);
+        this.codeTerms.put(normalize(code) + SEPARATOR + code, branch);
+        List<String> terms = new ArrayList<>();
+        String name = normalize(branch.getName());
+        if (!name.isEmpty()) {
+            int start = 0;
+            while (start >= 0) {
+                String term = name.substring(start) + SEPARATOR + code;
+                this.nameTerms.put(term, branch);
+                terms.add(term);
+                int space = name.indexOf(' ', start);
+                start = space < 0 ? -1 : space + 1;
+            }
+        }
+        this.nameTermsByCode.put(code, terms);
+    }
+
+    public synchronized void remove(String code) {
+        this.codeTerms.remove(normalize(code) + SEPARATOR + code);
+        List<String> terms = this.nameTermsByCode.remove(code);
+        if (terms != null) {
+            for (String term : terms) {
+                this.nameTerms.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Returns up to limit branches whose code, or any word of whose name,
+     * starts with the given text. Code matches come first.
+     */
+    public List<Branch> search(String text, int limit) {
+        String prefix = normalize(text);
+        if (prefix.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        Map<String, Branch> found = new LinkedHashMap<>();
+        collect(this.codeTerms, prefix, limit, found);
+        collect(this.nameTerms, prefix, limit, found);
+        return new ArrayList<>(found.values());
+    }
+
+    public int size() {
+        return this.nameTermsByCode.size();
+    }
+
+    private static void collect(ConcurrentSkipListMap<String, Branch> terms, String prefix, int limit,
+            Map<String, Branch> found) {
+        for (Branch branch : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            if (found.size() >= limit) {
+                return;
+            }
+            found.putIfAbsent(branch.getCode(), branch);
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String plain = MARKS.matcher(decomposed).replaceAll("");
+        return SPACES.matcher(plain.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+    }
+}
@@ -0,0 +1,50 @@
+package com.banquito.core.branches.search;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.banquito.core.branches.model.Branch;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reactive counterpart of {@link BranchIndexLoader}. The startup thread waits
+ * for the cursor to drain; request threads never touch it.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+public class ReactiveBranchIndexLoader implements SmartInitializingSingleton {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final BranchSearchIndex searchIndex;
+    private final BranchGeoIndex geoIndex;
+
+    public ReactiveBranchIndexLoader(ReactiveMongoTemplate mongoTemplate, BranchSearchIndex searchIndex,
+            BranchGeoIndex geoIndex) {
+        this.mongoTemplate = mongoTemplate;
+        this.searchIndex = searchIndex;
+        this.geoIndex = geoIndex;
+    }
+
+    /**
+     * Same timing as {@link BranchIndexLoader#afterSingletonsInstantiated}:
+     * Netty only binds after the indexes are filled.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.load();
+    }
+
+    public void load() {
+        log.info("Building branch search and geo indexes");
+        this.mongoTemplate.findAll(Branch.class)
+                .doOnNext(this.searchIndex::put)
+                .doOnNext(this.geoIndex::put)
+                .then()
+                .block();
+        log.info("Branch indexes built with {} branches, {} located", this.searchIndex.size(), this.geoIndex.size());
+    }
+}
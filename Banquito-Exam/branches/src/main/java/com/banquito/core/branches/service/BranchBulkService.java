@@ -0,0 +1,198 @@
+package com.banquito.core.branches.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.banquito.core.branches.cache.BranchCache;
+import com.banquito.core.branches.model.Branch;
+import com.banquito.core.branches.model.BranchImportResult;
+import com.banquito.core.branches.model.BranchImportResult.Status;
+import com.banquito.core.branches.repository.BranchRevisionRepository;
+import com.banquito.core.branches.search.BranchGeoIndex;
+import com.banquito.core.branches.search.BranchSearchIndex;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+public class BranchBulkService {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final BranchCache branchCache;
+    private final BranchRevisionRepository revisionRepository;
+    private final BranchSearchIndex searchIndex;
+    private final BranchGeoIndex geoIndex;
+    private final int chunkSize;
+    private final int exportBatchSize;
+
+    public BranchBulkService(MongoTemplate mongoTemplate, BranchCache branchCache,
+            BranchRevisionRepository revisionRepository, BranchSearchIndex searchIndex, BranchGeoIndex geoIndex,
+            @Value("${banquito.branches.import.chunk-size:1000}") int chunkSize,
+            @Value("${banquito.branches.export.batch-size:500}") int exportBatchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.branchCache = branchCache;
+        this.revisionRepository = revisionRepository;
+        this.searchIndex = searchIndex;
+        this.geoIndex = geoIndex;
+        this.chunkSize = chunkSize;
+        this.exportBatchSize = exportBatchSize;
+    }
+
+    /**
+     * Opens a cursor over the branches ordered by code, optionally restricted
+     * to the codes starting with the given prefix. The caller must close the
+     * returned stream.
+     */
+    public Stream<Branch> streamBranches(String codePrefix) {
+        log.info("Going to stream branches with code prefix: {}", codePrefix);
+        Query query = new Query();
+        if (!isBlank(codePrefix)) {
+            query.addCriteria(Criteria.where("code").regex("^" + escapeRegex(codePrefix)));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, "code"));
+        query.cursorBatchSize(this.exportBatchSize);
+        return this.mongoTemplate.stream(query, Branch.class);
+    }
+
+    /**
+     * Imports the given branches in unordered bulk writes of chunk-size
+     * elements. A null element stands for an entry that could not be parsed.
+     *
+     * @param branches branches to import, in request order
+     * @param upsert   when true existing codes get their name replaced instead
+     *                 of being reported as duplicates
+     * @return one result per element, in request order
+     */
+    public List<BranchImportResult> importBranches(Iterator<Branch> branches, boolean upsert) {
+        log.info("Going to import branches in chunks of {}, upsert: {}", this.chunkSize, upsert);
+        List<BranchImportResult> results = new ArrayList<>();
+        List<Branch> chunk = new ArrayList<>(this.chunkSize);
+        List<BranchImportResult> chunkResults = new ArrayList<>(this.chunkSize);
+        int index = 0;
+        while (branches.hasNext()) {
+            Branch branch = branches.next();
+            if (branch == null || isBlank(branch.getCode()) || isBlank(branch.getName())) {
+                results.add(new BranchImportResult(index, branch == null ? null : branch.getCode(), Status.INVALID,
+                        "Branch code and name are required"));
+            } else {
+                BranchImportResult result = new BranchImportResult(index, branch.getCode(), null, null);
+                results.add(result);
+                chunk.add(branch);
+                chunkResults.add(result);
+                if (chunk.size() == this.chunkSize) {
+                    this.writeChunk(chunk, chunkResults, upsert);
+                    chunk.clear();
+                    chunkResults.clear();
+                }
+            }
+            index++;
+        }
+        if (!chunk.isEmpty()) {
+            this.writeChunk(chunk, chunkResults, upsert);
+        }
+        log.info("Imported {} branches", results.size());
+        return results;
+    }
+
+    private void writeChunk(List<Branch> chunk, List<BranchImportResult> chunkResults, boolean upsert) {
+        log.debug("Writing chunk of {} branches", chunk.size());
+        BulkOperations ops = this.mongoTemplate.bulkOps(BulkMode.UNORDERED, Branch.class);
+        if (upsert) {
+            for (Branch branch : chunk) {
+                Update update = new Update().set("name", branch.getName()).inc("version", 1L);
+                if (branch.getLocation() != null) {
+                    update.set("location", branch.getLocation());
+                }
+                ops.upsert(Query.query(Criteria.where("code").is(branch.getCode())), update);
+            }
+        } else {
+            for (Branch branch : chunk) {
+                branch.setVersion(0L);
+            }
+            ops.insert(chunk);
+        }
+        for (BranchImportResult result : chunkResults) {
+            result.setStatus(upsert ? Status.UPDATED : Status.INSERTED);
+        }
+        try {
+            BulkWriteResult writeResult = ops.execute();
+            if (upsert) {
+                for (BulkWriteUpsert inserted : writeResult.getUpserts()) {
+                    chunkResults.get(inserted.getIndex()).setStatus(Status.INSERTED);
+                }
+            }
+        } catch (BulkOperationException e) {
+            log.error("Bulk write finished with {} errors", e.getErrors().size());
+            for (BulkWriteError error : e.getErrors()) {
+                BranchImportResult result = chunkResults.get(error.getIndex());
+                result.setStatus(error.getCode() == DUPLICATE_KEY ? Status.DUPLICATE : Status.FAILED);
+                result.setMessage(error.getMessage());
+            }
+        }
+        if (upsert) {
+            for (Branch branch : chunk) {
+                this.branchCache.invalidateByCode(branch.getCode());
+            }
+        }
+        List<String> written = writtenCodes(chunkResults);
+        if (written.isEmpty()) {
+            log.debug("Chunk wrote no branches, revision unchanged");
+            return;
+        }
+        this.refreshIndexes(written);
+        this.revisionRepository.increment();
+    }
+
+    private static List<String> writtenCodes(List<BranchImportResult> chunkResults) {
+        List<String> codes = new ArrayList<>(chunkResults.size());
+        for (BranchImportResult result : chunkResults) {
+            if (result.getStatus() == Status.INSERTED || result.getStatus() == Status.UPDATED) {
+                codes.add(result.getCode());
+            }
+        }
+        return codes;
+    }
+
+    private void refreshIndexes(List<String> codes) {
+        List<Branch> written = this.mongoTemplate.find(Query.query(Criteria.where("code").in(codes)), Branch.class);
+        for (Branch branch : written) {
+            this.searchIndex.put(branch);
+            this.geoIndex.put(branch);
+        }
+    }
+
+    private String escapeRegex(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (char c : value.toCharArray()) {
+            if ("\\^$.|?*+()[]{}".indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,163 @@
+package com.banquito.core.branches.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.banquito.core.branches.cache.BranchCache;
+import com.banquito.core.branches.exception.CRUDException;
+import com.banquito.core.branches.model.Branch;
+import com.banquito.core.branches.repository.ReactiveBranchRepository;
+import com.banquito.core.branches.repository.ReactiveBranchRevisionRepository;
+import com.banquito.core.branches.search.BranchGeoIndex;
+import com.banquito.core.branches.search.BranchSearchIndex;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@Profile("reactive")
+public class BranchReactiveService {
+
+    private final ReactiveBranchRepository branchRepository;
+    private final BranchCache branchCache;
+    private final ReactiveBranchRevisionRepository revisionRepository;
+    private final BranchSearchIndex searchIndex;
+    private final BranchGeoIndex geoIndex;
+    private final int exportBatchSize;
+
+    public BranchReactiveService(ReactiveBranchRepository branchRepository, BranchCache branchCache,
+            ReactiveBranchRevisionRepository revisionRepository, BranchSearchIndex searchIndex,
+            BranchGeoIndex geoIndex, @Value("${banquito.branches.export.batch-size:500}") int exportBatchSize) {
+        this.branchRepository = branchRepository;
+        this.branchCache = branchCache;
+        this.revisionRepository = revisionRepository;
+        this.searchIndex = searchIndex;
+        this.geoIndex = geoIndex;
+        this.exportBatchSize = exportBatchSize;
+    }
+
+    public Mono<Long> getRevision() {
+        return this.revisionRepository.current();
+    }
+
+    public Mono<Branch> lookById(String id) {
+        log.info("Looking branch with id: {}", id);
+        Branch cached = this.branchCache.getById(id);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return this.branchRepository.findById(id)
+                .switchIfEmpty(Mono.error(new CRUDException(404, "Branch with id: {" + id + "} does not exist")))
+                .doOnNext(this.branchCache::put);
+    }
+
+    public Mono<Branch> lookByCode(String code) {
+        log.info("looking branch with code {}", code);
+        Branch cached = this.branchCache.getByCode(code);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return this.branchRepository.findByCode(code)
+                .doOnNext(this.branchCache::put);
+    }
+
+    public Flux<Branch> lookByCodes(Collection<String> codes) {
+        log.info("Looking {} branches by code", codes.size());
+        List<Branch> cached = new ArrayList<>(codes.size());
+        List<String> pending = new ArrayList<>();
+        for (String code : codes) {
+            Branch branch = this.branchCache.getByCode(code);
+            if (branch != null) {
+                cached.add(branch);
+            } else {
+                pending.add(code);
+            }
+        }
+        if (pending.isEmpty()) {
+            return Flux.fromIterable(cached);
+        }
+        return Flux.fromIterable(cached)
+                .concatWith(this.branchRepository.findByCodeIn(pending).doOnNext(this.branchCache::put));
+    }
+
+    public Flux<Branch> getPage(String afterCode, int limit, Set<String> fields) {
+        if (fields == null) {
+            return this.getPage(afterCode, limit);
+        }
+        log.info("Going to return {} branches after code: {} with fields: {}", limit, afterCode, fields);
+        return this.branchRepository.findProjected(afterCode, limit, fields);
+    }
+
+    public Flux<Branch> getPage(String afterCode, int limit) {
+        log.info("Going to return {} branches after code: {}", limit, afterCode);
+        Pageable page = PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, "code"));
+        if (afterCode == null) {
+            return this.branchRepository.findAllBy(page);
+        }
+        return this.branchRepository.findByCodeGreaterThan(afterCode, page);
+    }
+
+    /**
+     * Reads the branches ordered by code, optionally restricted to the codes
+     * starting with the given prefix, as the cursor delivers them.
+     */
+    public Flux<Branch> streamBranches(String codePrefix) {
+        log.info("Going to stream branches with code prefix: {}", codePrefix);
+        return this.branchRepository.findByCodePrefix(codePrefix, this.exportBatchSize);
+    }
+
+    public Mono<Branch> create(Branch branch) {
+        log.info("Creating branch with code: {}", branch.getCode());
+        log.debug("Creating branch with the following info: {}", branch);
+        return this.branchRepository.save(branch)
+                .doOnNext(this.branchCache::put)
+                .doOnNext(this.searchIndex::put)
+                .doOnNext(this.geoIndex::put)
+                .flatMap(this::bumpRevision)
+                .onErrorMap(e -> {
+                    log.error("Error in branch creation: {}, with data: {}", e.getMessage(), branch);
+                    return new CRUDException(510, "Branch cannot be created, error:" + e.getMessage(), e);
+                });
+    }
+
+    public Mono<Branch> update(String code, Branch branch, Long expectedVersion) {
+        log.info("Going to update branch with code: {} ", code);
+        log.debug("Going to update branch with code: {} with the following data {}", code, branch);
+        return this.branchRepository.updateDetails(code, branch.getName(), branch.getLocation(), expectedVersion)
+                .switchIfEmpty(Mono.<Branch>defer(() -> {
+                    this.branchCache.invalidateByCode(code);
+                    if (expectedVersion == null) {
+                        return Mono.<Branch>error(new CRUDException(404, "Branch with code: {" + code + "} does not exist"));
+                    }
+                    return this.branchRepository.findByCode(code)
+                            .flatMap(existing -> Mono.<Branch>error(new CRUDException(412,
+                                    "Branch with code: {" + code + "} does not have version " + expectedVersion)))
+                            .switchIfEmpty(Mono.error(
+                                    new CRUDException(404, "Branch with code: {" + code + "} does not exist")));
+                }))
+                .doOnNext(this.branchCache::put)
+                .doOnNext(this.searchIndex::put)
+                .doOnNext(this.geoIndex::put)
+                .flatMap(this::bumpRevision)
+                .onErrorMap(e -> !(e instanceof CRUDException), e -> {
+                    log.error("Error when try to update branch: {}, with the following info: {}", e.getMessage(),
+                            branch);
+                    return new CRUDException(520, "Branch cannot be updated, error:" + e.getMessage(), e);
+                });
+    }
+
+    private Mono<Branch> bumpRevision(Branch branch) {
+        return this.revisionRepository.increment().thenReturn(branch);
+    }
+}
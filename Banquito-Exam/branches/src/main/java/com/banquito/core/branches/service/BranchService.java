@@ -1,70 +1,178 @@
 package com.banquito.core.branches.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.banquito.core.branches.cache.BranchCache;
 import com.banquito.core.branches.exception.CRUDException;
 import com.banquito.core.branches.model.Branch;
 import com.banquito.core.branches.repository.BranchRepository;
+import com.banquito.core.branches.repository.BranchRevisionRepository;
+import com.banquito.core.branches.search.BranchGeoIndex;
+import com.banquito.core.branches.search.BranchSearchIndex;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 public class BranchService {
 
     private final BranchRepository branchRepository;
+    private final BranchCache branchCache;
+    private final BranchRevisionRepository revisionRepository;
+    private final BranchSearchIndex searchIndex;
+    private final BranchGeoIndex geoIndex;
 
-    public BranchService(BranchRepository branchRepository) {
+    public BranchService(BranchRepository branchRepository, BranchCache branchCache,
+            BranchRevisionRepository revisionRepository, BranchSearchIndex searchIndex, BranchGeoIndex geoIndex) {
         this.branchRepository = branchRepository;
+        this.branchCache = branchCache;
+        this.revisionRepository = revisionRepository;
+        this.searchIndex = searchIndex;
+        this.geoIndex = geoIndex;
+    }
+
+    public long getRevision() {
+        return this.revisionRepository.current();
     }
 
     public Branch lookById(String id) throws CRUDException {
         log.info("Looking branch with id: {}", id);
+        Branch cached = this.branchCache.getById(id);
+        if (cached != null) {
+            log.debug("Branch with id: {} served from cache", id);
+            return cached;
+        }
         Optional<Branch> branchOpt = this.branchRepository.findById(id);
         if (!branchOpt.isPresent()) {
             throw new CRUDException(404, "Branch with id: {"+id+"} does not exist");
         }
+        this.branchCache.put(branchOpt.get());
         return branchOpt.get();
     }
 
     public Branch lookByCode(String code) {
         log.info("looking branch with code {}", code);
-        Branch branch = this.branchRepository.findByCode(code);
+        Branch branch = this.branchCache.getByCode(code);
+        if (branch != null) {
+            log.debug("Branch with code: {} served from cache", code);
+            return branch;
+        }
+        branch = this.branchRepository.findByCode(code);
         log.debug("Branch info for code {} -> {}", code, branch);
+        this.branchCache.put(branch);
         return branch;
     }
 
+    /**
+     * Resolves several codes at once: cached branches are served from memory
+     * and the rest are read with a single $in query on the code index.
+     * Codes that do not exist are simply absent from the result.
+     */
+    public List<Branch> lookByCodes(Collection<String> codes) {
+        log.info("Looking {} branches by code", codes.size());
+        List<Branch> branches = new ArrayList<>(codes.size());
+        List<String> pending = new ArrayList<>();
+        for (String code : codes) {
+            Branch cached = this.branchCache.getByCode(code);
+            if (cached != null) {
+                branches.add(cached);
+            } else {
+                pending.add(code);
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.debug("{} branch codes not cached, going to database", pending.size());
+            for (Branch branch : this.branchRepository.findByCodeIn(pending)) {
+                this.branchCache.put(branch);
+                branches.add(branch);
+            }
+        }
+        return branches;
+    }
+
     public List<Branch> getAll() {
         log.info("Going to return all braches");
         return this.branchRepository.findAll();
     }
 
+    public List<Branch> getPage(String afterCode, int limit, Set<String> fields) {
+        if (fields == null) {
+            return this.getPage(afterCode, limit);
+        }
+        log.info("Going to return {} branches after code: {} with fields: {}", limit, afterCode, fields);
+        return this.branchRepository.findProjected(afterCode, limit, fields);
+    }
+
+    public List<Branch> getPage(String afterCode, int limit) {
+        log.info("Going to return {} branches after code: {}", limit, afterCode);
+        Pageable page = PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, "code"));
+        if (afterCode == null) {
+            return this.branchRepository.findAllBy(page);
+        }
+        return this.branchRepository.findByCodeGreaterThan(afterCode, page);
+    }
+
     public void create(Branch branch) throws CRUDException {
         try {
             log.info("Creating branch with code: {}", branch.getCode());
             log.debug("Creating branch with the following info: {}", branch);
             this.branchRepository.save(branch);
+            this.branchCache.put(branch);
+            this.searchIndex.put(branch);
+            this.geoIndex.put(branch);
+            this.revisionRepository.increment();
         } catch (Exception e) {
             log.error("Error in branch creation: {}, with data: {}", e.getMessage(), branch);
             throw new CRUDException(510, "Branch cannot be created, error:" + e.getMessage(), e);
         }
     }
 
-    public void update(String code, Branch branch) throws CRUDException {
+    public Branch update(String code, Branch branch) throws CRUDException {
+        return this.update(code, branch, null);
+    }
+
+    /**
+     * Updates the branch name and location with a single atomic findAndModify
+     * and returns the updated branch. Fails with 412 when expectedVersion is
+     * given and does not match the stored version. A successful update takes
+     * a second round trip to bump the collection revision behind the listing
+     * ETag; deriving that tag from the branch versions instead would cost a
+     * collection scan on every conditional listing.
+     */
+    public Branch update(String code, Branch branch, Long expectedVersion) throws CRUDException {
         
         try {
             log.info("Going to update branch with code: {} ", code);
             log.debug("Going to update branch with code: {} with the following data {}", code, branch);
-            Branch branchTmp = this.branchRepository.findByCode(code);
+            Branch branchTmp = this.branchRepository.updateDetails(code, branch.getName(), branch.getLocation(),
+                    expectedVersion);
             if (branchTmp==null) {
+                this.branchCache.invalidateByCode(code);
+                if (expectedVersion != null && this.branchRepository.findByCode(code) != null) {
+                    throw new CRUDException(412, "Branch with code: {"+code+"} does not have version "+expectedVersion);
+                }
                 throw new CRUDException(404, "Branch with code: {"+code+"} does not exist");
             }
-            branchTmp.setName(branch.getName());
-            this.branchRepository.save(branchTmp);
+            this.branchCache.put(branchTmp);
+            this.searchIndex.put(branchTmp);
+            this.geoIndex.put(branchTmp);
+            this.revisionRepository.increment();
             log.debug("Branch with id: {} and code: {} has been updated with the following info {}", branchTmp.getId(), branchTmp.getCode(), branchTmp);
+            return branchTmp;
+        } catch (CRUDException e) {
+            log.error("Error when try to update branch: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Error when try to update branch: {}, with the following info: {}", e.getMessage(), branch);
             throw new CRUDException(520, "Branch cannot be updated, error:" + e.getMessage(), e);
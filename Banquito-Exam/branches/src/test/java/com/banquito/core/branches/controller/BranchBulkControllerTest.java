@@ -0,0 +1,136 @@
+package com.banquito.core.branches.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.banquito.core.branches.controller.dto.BranchRQRS;
+import com.banquito.core.branches.model.Branch;
+import com.banquito.core.branches.model.BranchImportResult;
+import com.banquito.core.branches.service.BranchBulkService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class BranchBulkControllerTest {
+
+    @Mock
+    private BranchBulkService bulkService;
+
+    private ObjectMapper objectMapper;
+
+    private BranchBulkController bulkController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        objectMapper = new ObjectMapper();
+        bulkController = new BranchBulkController(bulkService, objectMapper);
+    }
+
+    @Test
+    void testImportArrayStreamsElements() throws IOException {
+        List<Branch> imported = new ArrayList<>();
+        when(bulkService.importBranches(any(), eq(true))).thenAnswer(invocation -> {
+            Iterator<Branch> branches = invocation.getArgument(0);
+            branches.forEachRemaining(imported::add);
+            return List.of();
+        });
+
+        ResponseEntity<List<BranchImportResult>> response = bulkController.importArray(
+                body("[{\"code\":\"asd123\",\"name\":\"Branch1\"}, null, 5, {\"code\":[1]},"
+                        + " {\"code\":\"asd456\",\"name\":\"Branch2\"}]"),
+                true);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(5, imported.size());
+        assertEquals("asd123", imported.get(0).getCode());
+        assertNull(imported.get(1));
+        assertNull(imported.get(2));
+        assertNull(imported.get(3));
+        assertEquals("Branch2", imported.get(4).getName());
+    }
+
+    @Test
+    void testImportArrayRejectsOtherBodies() throws IOException {
+        when(bulkService.importBranches(any(), eq(false))).thenAnswer(invocation -> {
+            Iterator<Branch> branches = invocation.getArgument(0);
+            branches.forEachRemaining(branch -> { });
+            return List.of();
+        });
+
+        assertEquals(HttpStatus.BAD_REQUEST,
+                bulkController.importArray(body("{\"code\":\"asd123\"}"), false).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                bulkController.importArray(body("[{\"code\":\"asd123\"},"), false).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                bulkController.importArray(body("[{\"code\": }]"), false).getStatusCode());
+    }
+
+    @Test
+    void testExportWritesOneJsonLinePerBranch() throws IOException {
+        Branch branch1 = new Branch();
+        branch1.setId("id1");
+        branch1.setCode("asd123");
+        branch1.setName("Branch1");
+        branch1.setLocation(new GeoJsonPoint(-78.5, -0.2));
+        branch1.setVersion(2L);
+        Branch branch2 = new Branch();
+        branch2.setId("id2");
+        branch2.setCode("asd456");
+        branch2.setName("Branch2");
+        AtomicBoolean closed = new AtomicBoolean();
+        when(bulkService.streamBranches("asd")).thenReturn(Stream.of(branch1, branch2).onClose(() -> closed.set(true)));
+
+        ResponseEntity<StreamingResponseBody> response = bulkController.export("asd");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(BranchBulkController.NDJSON, response.getHeaders().getContentType().toString());
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        BranchRQRS first = objectMapper.readValue(lines[0], BranchRQRS.class);
+        assertEquals("asd123", first.getCode());
+        assertEquals(-0.2, first.getLatitude());
+        assertEquals(-78.5, first.getLongitude());
+        assertEquals(2L, first.getVersion());
+        assertEquals("asd456", objectMapper.readValue(lines[1], BranchRQRS.class).getCode());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testExportEmpty() throws IOException {
+        when(bulkService.streamBranches(null)).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bulkController.export(null).getBody().writeTo(out);
+
+        assertEquals(0, out.size());
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
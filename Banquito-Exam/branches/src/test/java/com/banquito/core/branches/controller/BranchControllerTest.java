@@ -4,14 +4,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +28,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.banquito.core.branches.controller.dto.BranchRQRS;
+import com.banquito.core.branches.controller.mapper.BranchMapper;
+import com.banquito.core.branches.controller.mapper.CursorMapper;
 
 import com.banquito.core.branches.exception.CRUDException;
 import com.banquito.core.branches.model.Branch;
@@ -87,14 +94,84 @@ public class BranchControllerTest {
         branches.add(branch1);
         branches.add(branch2);
 
-        when(branchService.getAll()).thenReturn(branches);
+        when(branchService.getPage(null, 1001, null)).thenReturn(branches);
 
         BranchController branchController = new BranchController(branchService);
-        ResponseEntity<List<BranchRQRS>> response = branchController.obtainAll();
+        ResponseEntity<List<BranchRQRS>> response = branchController.obtainAll(null, null, null, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().size());
+        assertNull(response.getHeaders().getFirst(BranchController.NEXT_CURSOR_HEADER));
 
     }
 
+    @Test
+    void testObtainPage() {
+
+        Branch branch1 = new Branch();
+        branch1.setCode("asd123");
+        branch1.setName("Branch1");
+
+        Branch branch2 = new Branch();
+        branch2.setCode("zxc123");
+        branch2.setName("Branch2");
+
+        List<Branch> branches = new ArrayList<>();
+        branches.add(branch1);
+        branches.add(branch2);
+
+        when(branchService.getPage(null, 2, null)).thenReturn(branches);
+
+        BranchController branchController = new BranchController(branchService);
+        ResponseEntity<List<BranchRQRS>> response = branchController.obtainAll(1, null, null, null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals("asd123", CursorMapper.decode(response.getHeaders().getFirst(BranchController.NEXT_CURSOR_HEADER)));
+    }
+
+    @Test
+    void testObtainAllOnlyIds() {
+        Branch branch = new Branch();
+        branch.setId("64a1");
+
+        when(branchService.getPage(null, 1001, Set.of("id"))).thenReturn(List.of(branch));
+
+        ResponseEntity<List<BranchRQRS>> response = branchController.obtainAll(null, null, "id", null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("64a1", response.getBody().get(0).getId());
+        assertNull(response.getBody().get(0).getCode());
+    }
+
+    @Test
+    void testObtainAllWithUnknownField() {
+        ResponseEntity<List<BranchRQRS>> response = branchController.obtainAll(null, null, "code,password", null);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(branchService, never()).getPage(any(), anyInt(), any());
+    }
+
+    @Test
+    void testObtainAllNotModified() {
+        when(branchService.getRevision()).thenReturn(7L);
+        String etag = BranchMapper.mapToETag(7L, null, 10, Set.of("code"));
+
+        ResponseEntity<List<BranchRQRS>> response = branchController.obtainAll(10, null, "code", "\"1\", W/" + etag);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(etag, response.getHeaders().getETag());
+        verify(branchService, never()).getPage(any(), anyInt(), any());
+    }
+
+    @Test
+    void testObtainAllProjectionHasOwnETag() {
+        when(branchService.getRevision()).thenReturn(7L);
+        when(branchService.getPage(null, 11, null)).thenReturn(new ArrayList<>());
+        String projectedETag = BranchMapper.mapToETag(7L, null, 10, Set.of("code"));
+
+        ResponseEntity<List<BranchRQRS>> response = branchController.obtainAll(10, null, null, projectedETag);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(projectedETag, response.getHeaders().getETag());
+    }
+
     @Test
     void testObtainByCodeWithValidCode() {
         Branch branch = new Branch();
@@ -104,17 +181,33 @@ public class BranchControllerTest {
         when(branchService.lookByCode(anyString())).thenReturn(branch);
 
         BranchController branchController = new BranchController(branchService);
-        ResponseEntity<BranchRQRS> response = branchController.obtainByCode("asd123");
+        ResponseEntity<BranchRQRS> response = branchController.obtainByCode("asd123", null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
+    @Test
+    void testObtainByCodeNotModified() {
+        Branch branch = new Branch();
+        branch.setCode("asd123");
+        branch.setName("Branch1");
+        branch.setVersion(3L);
+
+        when(branchService.lookByCode(anyString())).thenReturn(branch);
+
+        BranchController branchController = new BranchController(branchService);
+        ResponseEntity<BranchRQRS> response = branchController.obtainByCode("asd123", null, "\"2\", W/\"3\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
     @Test
     void testObtainByCodeWithInvalidCode() {
         when(branchService.lookByCode(anyString())).thenReturn(null);
 
         BranchController branchController = new BranchController(branchService);
-        ResponseEntity<BranchRQRS> response = branchController.obtainByCode("asd123");
+        ResponseEntity<BranchRQRS> response = branchController.obtainByCode("asd123", null, null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
@@ -126,13 +219,13 @@ public class BranchControllerTest {
         branch1.setCode("asd123");
         branch1.setName("Branch1");
         branch1.setId("idTest");
-        when(branchService.lookByCode("asd123")).thenReturn(branch1);
+        when(branchService.update(eq("asd123"), any(Branch.class), isNull())).thenReturn(branch1);
 
         BranchRQRS branchRQRS = new BranchRQRS();
         branchRQRS.setCode("asd123");
         branchRQRS.setName("Branch1-updated");
         // When
-        ResponseEntity<BranchRQRS> response = branchController.update("asd123", branchRQRS);
+        ResponseEntity<BranchRQRS> response = branchController.update("asd123", branchRQRS, null);
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
         BranchRQRS updatedBranch = response.getBody();
@@ -140,4 +233,32 @@ public class BranchControllerTest {
 
     }
 
+    @Test
+    void testUpdateWithWeakIfMatch() throws CRUDException {
+        BranchRQRS branchRQRS = new BranchRQRS();
+        branchRQRS.setCode("asd123");
+        branchRQRS.setName("Branch1-updated");
+
+        ResponseEntity<BranchRQRS> response = branchController.update("asd123", branchRQRS, "W/\"3\"");
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        verify(branchService, times(0)).update(anyString(), any(Branch.class), any());
+    }
+
+    @Test
+    void testUpdateWithStrongIfMatch() throws CRUDException {
+        Branch branch1 = new Branch();
+        branch1.setCode("asd123");
+        branch1.setName("Branch1-updated");
+        branch1.setVersion(4L);
+        when(branchService.update(eq("asd123"), any(Branch.class), eq(3L))).thenReturn(branch1);
+        BranchRQRS branchRQRS = new BranchRQRS();
+        branchRQRS.setCode("asd123");
+        branchRQRS.setName("Branch1-updated");
+
+        ResponseEntity<BranchRQRS> response = branchController.update("asd123", branchRQRS, "\"3\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+    }
 }
@@ -0,0 +1,52 @@
+package com.banquito.core.branches.controller.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class BranchMapperTest {
+
+    @Test
+    void testMatchesNoneMatchList() {
+        assertTrue(BranchMapper.matchesNoneMatch("\"1\", \"3\"", "\"3\""));
+        assertTrue(BranchMapper.matchesNoneMatch("\"1\",\"3\",\"5\"", "\"3\""));
+        assertFalse(BranchMapper.matchesNoneMatch("\"1\", \"33\"", "\"3\""));
+    }
+
+    @Test
+    void testMatchesNoneMatchWeakComparison() {
+        assertTrue(BranchMapper.matchesNoneMatch("W/\"3\"", "\"3\""));
+        assertTrue(BranchMapper.matchesNoneMatch("\"1\", W/\"3\"", "\"3\""));
+    }
+
+    @Test
+    void testMatchesNoneMatchAny() {
+        assertTrue(BranchMapper.matchesNoneMatch(" * ", "\"3\""));
+        assertFalse(BranchMapper.matchesNoneMatch(null, "\"3\""));
+        assertFalse(BranchMapper.matchesNoneMatch("", "\"3\""));
+    }
+
+    @Test
+    void testMatchesNoneMatchMalformed() {
+        assertFalse(BranchMapper.matchesNoneMatch("3", "\"3\""));
+        assertFalse(BranchMapper.matchesNoneMatch("\"3", "\"3\""));
+    }
+
+    @Test
+    void testListingETagDependsOnQuery() {
+        String etag = BranchMapper.mapToETag(7L, null, 1000, null);
+
+        assertEquals(etag, BranchMapper.mapToETag(7L, null, 1000, null));
+        assertEquals(BranchMapper.mapToETag(7L, "b", 10, Set.of("code", "name")),
+                BranchMapper.mapToETag(7L, "b", 10, Set.of("name", "code")));
+        assertNotEquals(etag, BranchMapper.mapToETag(8L, null, 1000, null));
+        assertNotEquals(etag, BranchMapper.mapToETag(7L, null, 10, null));
+        assertNotEquals(etag, BranchMapper.mapToETag(7L, "b", 1000, null));
+        assertNotEquals(etag, BranchMapper.mapToETag(7L, null, 1000, Set.of("code")));
+    }
+}
@@ -0,0 +1,40 @@
+package com.banquito.core.branches.controller.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class FieldsMapperTest {
+
+    @Test
+    void testParseAllFields() {
+        assertNull(FieldsMapper.parse(null, BranchMapper.FIELDS));
+        assertNull(FieldsMapper.parse(" ", BranchMapper.FIELDS));
+        assertNull(FieldsMapper.parse(", ,", BranchMapper.FIELDS));
+    }
+
+    @Test
+    void testParseKeepsRequestOrder() {
+        Set<String> fields = FieldsMapper.parse(" name,code ,,name", BranchMapper.FIELDS);
+
+        assertEquals(List.of("name", "code"), List.copyOf(fields));
+    }
+
+    @Test
+    void testParseOnlyId() {
+        assertEquals(Set.of("id"), FieldsMapper.parse("id", BranchMapper.FIELDS));
+    }
+
+    @Test
+    void testParseUnknownField() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> FieldsMapper.parse("code,_id", BranchMapper.FIELDS));
+
+        assertEquals("Unknown field: _id", exception.getMessage());
+    }
+}
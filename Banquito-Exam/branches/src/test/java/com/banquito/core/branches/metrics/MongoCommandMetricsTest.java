@@ -0,0 +1,122 @@
+package com.banquito.core.branches.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MongoCommandMetricsTest {
+
+    private static final ConnectionDescription CONNECTION = new ConnectionDescription(
+            new ServerId(new ClusterId(), new ServerAddress()));
+
+    private SimpleMeterRegistry registry;
+
+    private MongoCommandMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MongoCommandMetrics(registry, 100, 2);
+    }
+
+    @Test
+    void testFindIsTaggedWithCollection() {
+        BsonDocument response = new BsonDocument("cursor",
+                new BsonDocument("firstBatch", new BsonArray(List.of(new BsonDocument(), new BsonDocument()))));
+
+        run(1, "find", new BsonDocument("find", new BsonString("branches")), response, 5);
+
+        Timer timer = registry.find("mongodb.command").tags("command", "find", "collection", "branches",
+                "method", "none", "status", "success").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        DistributionSummary documents = registry.find("mongodb.command.documents")
+                .tags("command", "find", "collection", "branches").summary();
+        assertEquals(2, documents.totalAmount());
+        assertTrue(metrics.getSlowCommands().isEmpty());
+    }
+
+    @Test
+    void testGetMoreIsTaggedWithCollectionNotCursorId() {
+        BsonDocument command = new BsonDocument("getMore", new BsonInt64(8_734_221L))
+                .append("collection", new BsonString("branches"));
+        BsonDocument response = new BsonDocument("cursor",
+                new BsonDocument("nextBatch", new BsonArray(List.of(new BsonDocument()))));
+
+        run(2, "getMore", command, response, 5);
+
+        Timer timer = registry.find("mongodb.command").tags("command", "getMore", "collection", "branches").timer();
+        assertNotNull(timer);
+        assertEquals(1, registry.find("mongodb.command.documents").tags("command", "getMore").summary()
+                .totalAmount());
+    }
+
+    @Test
+    void testCommandWithoutCollection() {
+        run(3, "ping", new BsonDocument("ping", new BsonInt32(1)), new BsonDocument(), 1);
+
+        assertNotNull(registry.find("mongodb.command").tags("command", "ping", "collection", "none").timer());
+    }
+
+    @Test
+    void testSlowCommandsAreSampledFromThreshold() {
+        BsonDocument command = new BsonDocument("find", new BsonString("branches"));
+
+        run(4, "find", command, new BsonDocument(), 99);
+        assertTrue(metrics.getSlowCommands().isEmpty());
+
+        run(5, "find", command, new BsonDocument(), 100);
+        run(6, "find", command, new BsonDocument(), 150);
+        run(7, "find", command, new BsonDocument(), 200);
+
+        List<MongoCommandMetrics.SlowCommand> slow = metrics.getSlowCommands();
+        assertEquals(2, slow.size());
+        assertEquals(150, slow.get(0).getElapsedMs());
+        assertEquals(200, slow.get(1).getElapsedMs());
+        assertEquals("branches", slow.get(1).getCollection());
+        assertEquals("success", slow.get(1).getStatus());
+    }
+
+    @Test
+    void testFailedCommand() {
+        metrics.commandStarted(new CommandStartedEvent(8, CONNECTION, "banquito", "update",
+                new BsonDocument("update", new BsonString("branches"))));
+        metrics.commandFailed(new CommandFailedEvent(8, CONNECTION, "update",
+                TimeUnit.MILLISECONDS.toNanos(120), new MongoException("boom")));
+
+        assertNotNull(registry.find("mongodb.command").tags("command", "update", "collection", "branches",
+                "status", "failure").timer());
+        assertEquals("failure", metrics.getSlowCommands().get(0).getStatus());
+    }
+
+    private void run(int requestId, String commandName, BsonDocument command, BsonDocument response,
+            long elapsedMs) {
+        metrics.commandStarted(new CommandStartedEvent(requestId, CONNECTION, "banquito", commandName, command));
+        metrics.commandSucceeded(new CommandSucceededEvent(requestId, CONNECTION, commandName, response,
+                TimeUnit.MILLISECONDS.toNanos(elapsedMs)));
+    }
+}
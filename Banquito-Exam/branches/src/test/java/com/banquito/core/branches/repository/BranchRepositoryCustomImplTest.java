@@ -0,0 +1,79 @@
+package com.banquito.core.branches.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.banquito.core.branches.model.Branch;
+
+public class BranchRepositoryCustomImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private BranchRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(mongoTemplate.find(any(Query.class), eq(Branch.class))).thenReturn(List.of());
+        repository = new BranchRepositoryCustomImpl(mongoTemplate);
+    }
+
+    @Test
+    void testFindProjectedOnlyId() {
+        Query query = findProjected(null, 0, Set.of("id"));
+
+        assertEquals(new Document("_id", 1), query.getFieldsObject());
+    }
+
+    @Test
+    void testFindProjectedWithoutId() {
+        Query query = findProjected(null, 0, new LinkedHashSet<>(List.of("code", "name")));
+
+        Document expected = new Document("code", 1).append("name", 1).append("_id", 0);
+        assertEquals(expected, query.getFieldsObject());
+        assertEquals(0, query.getLimit());
+        assertTrue(query.getQueryObject().isEmpty());
+    }
+
+    @Test
+    void testFindProjectedCoordinatesReadLocation() {
+        Query query = findProjected(null, 0, new LinkedHashSet<>(List.of("id", "latitude", "longitude")));
+
+        assertEquals(new Document("location", 1).append("_id", 1), query.getFieldsObject());
+    }
+
+    @Test
+    void testFindProjectedPageAlwaysReadsCode() {
+        Query query = findProjected("asd123", 10, Set.of("name"));
+
+        assertEquals(new Document("code", 1).append("name", 1).append("_id", 0), query.getFieldsObject());
+        assertEquals(10, query.getLimit());
+        assertEquals(new Document("code", new Document("$gt", "asd123")), query.getQueryObject());
+        assertEquals(new Document("code", 1), query.getSortObject());
+    }
+
+    private Query findProjected(String afterCode, int limit, Set<String> fields) {
+        repository.findProjected(afterCode, limit, fields);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Branch.class));
+        return query.getValue();
+    }
+}
@@ -0,0 +1,109 @@
+package com.banquito.core.branches.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.banquito.core.branches.model.Branch;
+
+public class BranchGeoIndexTest {
+
+    private BranchGeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        geoIndex = new BranchGeoIndex(0.05);
+        geoIndex.put(branch("UIO001", -0.1807, -78.4678));
+        geoIndex.put(branch("UIO002", -0.2950, -78.5480));
+        geoIndex.put(branch("GYE001", -2.1894, -79.8891));
+    }
+
+    @Test
+    void testNearest() {
+        List<BranchGeoIndex.Nearby> result = geoIndex.nearest(-0.1900, -78.4800, 2, null);
+
+        assertEquals(2, result.size());
+        assertEquals("UIO001", result.get(0).getBranch().getCode());
+        assertEquals("UIO002", result.get(1).getBranch().getCode());
+    }
+
+    @Test
+    void testNearestFarAway() {
+        List<BranchGeoIndex.Nearby> result = geoIndex.nearest(-2.2, -79.9, 3, null);
+
+        assertEquals(3, result.size());
+        assertEquals("GYE001", result.get(0).getBranch().getCode());
+    }
+
+    @Test
+    void testWithinRadius() {
+        List<BranchGeoIndex.Nearby> result = geoIndex.nearest(-0.1807, -78.4678, 10, 5.0);
+
+        assertEquals(1, result.size());
+        assertTrue(result.get(0).getDistanceKm() < 0.001);
+    }
+
+    @Test
+    void testPutMovesBranch() {
+        geoIndex.put(branch("UIO001", -2.19, -79.89));
+
+        assertEquals("UIO002", geoIndex.nearest(-0.1807, -78.4678, 1, null).get(0).getBranch().getCode());
+        assertEquals(3, geoIndex.size());
+    }
+
+    @Test
+    void testNearestAcrossAntimeridian() {
+        geoIndex.put(branch("SUV001", -18.0, 179.99));
+        geoIndex.put(branch("SUV002", -18.0, 179.9));
+        geoIndex.put(branch("TBU001", -18.0, -179.99));
+
+        List<BranchGeoIndex.Nearby> result = geoIndex.nearest(-18.0, 179.995, 2, null);
+
+        assertEquals("SUV001", result.get(0).getBranch().getCode());
+        assertEquals("TBU001", result.get(1).getBranch().getCode());
+        assertEquals(1, geoIndex.nearest(-18.0, -179.995, 1, 2.0).size());
+    }
+
+    @Test
+    void testNearestMatchesScanAtHighLatitude() {
+        BranchGeoIndex coarse = new BranchGeoIndex(0.5);
+        List<Branch> branches = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 400; i++) {
+            double longitude = 170 + random.nextDouble() * 20;
+            Branch branch = branch("B" + i, 75 + random.nextDouble() * 14.9,
+                    longitude >= 180 ? longitude - 360 : longitude);
+            branches.add(branch);
+            coarse.put(branch);
+        }
+        for (int i = 0; i < 200; i++) {
+            double latitude = 75 + random.nextDouble() * 14.9;
+            double longitude = 170 + random.nextDouble() * 20;
+            double queryLongitude = longitude >= 180 ? longitude - 360 : longitude;
+            List<BranchGeoIndex.Nearby> result = coarse.nearest(latitude, queryLongitude, 5, null);
+
+            branches.sort(Comparator.comparingDouble(
+                    branch -> BranchGeoIndex.distanceKm(latitude, queryLongitude, branch.getLocation())));
+            for (int j = 0; j < 5; j++) {
+                assertEquals(branches.get(j).getCode(), result.get(j).getBranch().getCode(),
+                        "query " + latitude + "," + queryLongitude + " position " + j);
+            }
+        }
+    }
+
+    private Branch branch(String code, double latitude, double longitude) {
+        Branch branch = new Branch();
+        branch.setCode(code);
+        branch.setName(code);
+        branch.setLocation(new GeoJsonPoint(longitude, latitude));
+        return branch;
+    }
+}
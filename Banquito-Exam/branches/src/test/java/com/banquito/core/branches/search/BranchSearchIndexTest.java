@@ -0,0 +1,61 @@
+package com.banquito.core.branches.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.banquito.core.branches.model.Branch;
+
+public class BranchSearchIndexTest {
+
+    private BranchSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new BranchSearchIndex();
+        searchIndex.put(branch("UIO001", "Agencia Quito Norte"));
+        searchIndex.put(branch("UIO002", "Agencia Quitumbe"));
+        searchIndex.put(branch("GYE001", "Agencia Guayaquil Centro"));
+    }
+
+    @Test
+    void testSearchByCodePrefix() {
+        List<Branch> result = searchIndex.search("uio", 10);
+
+        assertEquals(2, result.size());
+        assertEquals("UIO001", result.get(0).getCode());
+    }
+
+    @Test
+    void testSearchByNameWordIgnoringAccents() {
+        List<Branch> result = searchIndex.search("guayaquíl c", 10);
+
+        assertEquals(1, result.size());
+        assertEquals("GYE001", result.get(0).getCode());
+    }
+
+    @Test
+    void testSearchRespectsLimit() {
+        assertEquals(1, searchIndex.search("agencia", 1).size());
+    }
+
+    @Test
+    void testPutReplacesPreviousName() {
+        searchIndex.put(branch("UIO001", "Matriz"));
+
+        assertTrue(searchIndex.search("quito", 10).isEmpty());
+        assertEquals("UIO001", searchIndex.search("matriz", 10).get(0).getCode());
+        assertEquals(3, searchIndex.size());
+    }
+
+    private Branch branch(String code, String name) {
+        Branch branch = new Branch();
+        branch.setCode(code);
+        branch.setName(name);
+        return branch;
+    }
+}
@@ -0,0 +1,209 @@
+package com.banquito.core.branches.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.banquito.core.branches.cache.BranchCache;
+import com.banquito.core.branches.model.Branch;
+import com.banquito.core.branches.model.BranchImportResult;
+import com.banquito.core.branches.model.BranchImportResult.Status;
+import com.banquito.core.branches.repository.BranchRevisionRepository;
+import com.banquito.core.branches.service.BranchBulkService;
+import com.banquito.core.branches.search.BranchGeoIndex;
+import com.banquito.core.branches.search.BranchSearchIndex;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+
+public class BranchBulkServiceTest {
+
+    private BranchBulkService bulkService;
+
+    private BranchCache branchCache;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private BranchRevisionRepository revisionRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Branch.class)).thenReturn(bulkOperations);
+        branchCache = new BranchCache(100, 60);
+        bulkService = new BranchBulkService(mongoTemplate, branchCache, revisionRepository,
+                new BranchSearchIndex(), new BranchGeoIndex(0.05), 2, 10);
+    }
+
+    @Test
+    void testImportBranches() {
+        Branch branch1 = new Branch();
+        branch1.setCode("asd123");
+        branch1.setName("Branch1");
+        Branch branch2 = new Branch();
+        branch2.setCode("zxc123");
+        branch2.setName("Branch2");
+        Branch branch3 = new Branch();
+        branch3.setCode("qwe123");
+        branch3.setName("Branch3");
+        Branch invalid = new Branch();
+        invalid.setCode("inv123");
+
+        List<BranchImportResult> results = bulkService
+                .importBranches(Arrays.asList(branch1, invalid, branch2, null, branch3).iterator(), false);
+
+        assertEquals(5, results.size());
+        assertEquals(Status.INSERTED, results.get(0).getStatus());
+        assertEquals(Status.INVALID, results.get(1).getStatus());
+        assertEquals(Status.INSERTED, results.get(2).getStatus());
+        assertEquals(Status.INVALID, results.get(3).getStatus());
+        assertEquals(Status.INSERTED, results.get(4).getStatus());
+        verify(bulkOperations, times(2)).insert(anyList());
+        verify(bulkOperations, times(2)).execute();
+        verify(revisionRepository, times(2)).increment();
+    }
+
+    @Test
+    void testImportBranchesOnlyDuplicatesKeepsRevision() {
+        BulkWriteResult writeResult = BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of());
+        BulkWriteError duplicate = new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 0);
+        when(bulkOperations.execute()).thenThrow(new BulkOperationException("Bulk write failed",
+                new MongoBulkWriteException(writeResult, List.of(duplicate), null, new ServerAddress(), Set.of())));
+
+        List<BranchImportResult> results = bulkService
+                .importBranches(Arrays.asList(branch("asd123", "Branch1")).iterator(), false);
+
+        assertEquals(Status.DUPLICATE, results.get(0).getStatus());
+        verify(revisionRepository, never()).increment();
+    }
+
+    @Test
+    void testImportBranchesReportsDuplicates() {
+        Branch branch1 = branch("asd123", "Branch1");
+        Branch branch2 = branch("zxc123", "Branch2");
+        BulkWriteResult writeResult = BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of());
+        BulkWriteError duplicate = new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 1);
+        when(bulkOperations.execute()).thenThrow(new BulkOperationException("Bulk write failed",
+                new MongoBulkWriteException(writeResult, List.of(duplicate), null, new ServerAddress(), Set.of())));
+
+        List<BranchImportResult> results = bulkService
+                .importBranches(Arrays.asList(branch1, branch2).iterator(), false);
+
+        assertEquals(Status.INSERTED, results.get(0).getStatus());
+        assertEquals(Status.DUPLICATE, results.get(1).getStatus());
+        assertEquals("E11000 duplicate key error", results.get(1).getMessage());
+    }
+
+    @Test
+    void testImportBranchesReportsOtherWriteErrorsAsFailed() {
+        BulkWriteResult writeResult = BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of());
+        BulkWriteError failure = new BulkWriteError(121, "Document failed validation", new BsonDocument(), 0);
+        when(bulkOperations.execute()).thenThrow(new BulkOperationException("Bulk write failed",
+                new MongoBulkWriteException(writeResult, List.of(failure), null, new ServerAddress(), Set.of())));
+
+        List<BranchImportResult> results = bulkService
+                .importBranches(Arrays.asList(branch("asd123", "Branch1")).iterator(), false);
+
+        assertEquals(Status.FAILED, results.get(0).getStatus());
+    }
+
+    @Test
+    void testImportBranchesWithUpsert() {
+        Branch existing = branch("asd123", "Old name");
+        existing.setId("id1");
+        branchCache.put(existing);
+        Branch branch1 = branch("asd123", "Branch1");
+        Branch branch2 = branch("zxc123", "Branch2");
+        when(bulkOperations.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1,
+                List.of(new BulkWriteUpsert(1, new BsonObjectId())), List.of()));
+        assertNotNull(branchCache.getByCode("asd123"));
+
+        List<BranchImportResult> results = bulkService
+                .importBranches(Arrays.asList(branch1, branch2).iterator(), true);
+
+        assertEquals(Status.UPDATED, results.get(0).getStatus());
+        assertEquals(Status.INSERTED, results.get(1).getStatus());
+        verify(bulkOperations, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(0)).insert(anyList());
+        assertNull(branchCache.getByCode("asd123"));
+        assertNull(branchCache.getById("id1"));
+    }
+
+    @Test
+    void testStreamBranchesWithPrefix() {
+        Branch branch = branch("a.b*1", "Branch1");
+        when(mongoTemplate.stream(any(Query.class), eq(Branch.class))).thenReturn(Stream.of(branch));
+
+        List<Branch> streamed;
+        try (Stream<Branch> branches = bulkService.streamBranches("a.b*")) {
+            streamed = branches.toList();
+        }
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(Branch.class));
+        Pattern pattern = (Pattern) query.getValue().getQueryObject().get("code");
+        assertEquals("^a\\.b\\*", pattern.pattern());
+        assertTrue(pattern.matcher("a.b*1").find());
+        assertFalse(pattern.matcher("axbb1").find());
+        assertEquals(1, query.getValue().getSortObject().getInteger("code"));
+        assertEquals(10, query.getValue().getMeta().getCursorBatchSize());
+        assertEquals(List.of(branch), streamed);
+    }
+
+    @Test
+    void testStreamBranchesWithoutPrefix() {
+        when(mongoTemplate.stream(any(Query.class), eq(Branch.class))).thenReturn(Stream.empty());
+
+        try (Stream<Branch> branches = bulkService.streamBranches(" ")) {
+            assertEquals(0, branches.count());
+        }
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(Branch.class));
+        assertTrue(query.getValue().getQueryObject().isEmpty());
+    }
+
+    private static Branch branch(String code, String name) {
+        Branch branch = new Branch();
+        branch.setCode(code);
+        branch.setName(name);
+        return branch;
+    }
+}
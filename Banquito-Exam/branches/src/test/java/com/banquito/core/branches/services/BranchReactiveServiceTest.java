@@ -0,0 +1,94 @@
+package com.banquito.core.branches.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.banquito.core.branches.cache.BranchCache;
+import com.banquito.core.branches.exception.CRUDException;
+import com.banquito.core.branches.model.Branch;
+import com.banquito.core.branches.repository.ReactiveBranchRepository;
+import com.banquito.core.branches.repository.ReactiveBranchRevisionRepository;
+import com.banquito.core.branches.service.BranchReactiveService;
+import com.banquito.core.branches.search.BranchGeoIndex;
+import com.banquito.core.branches.search.BranchSearchIndex;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+public class BranchReactiveServiceTest {
+
+    private BranchReactiveService branchService;
+
+    @Mock
+    private ReactiveBranchRepository branchRepositoryMock;
+
+    @Mock
+    private ReactiveBranchRevisionRepository revisionRepositoryMock;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        branchService = new BranchReactiveService(branchRepositoryMock, new BranchCache(100, 60), revisionRepositoryMock,
+                new BranchSearchIndex(), new BranchGeoIndex(0.05), 500);
+    }
+
+    @Test
+    void testLookByCode() {
+        Branch branch = new Branch();
+        branch.setCode("asd123");
+        branch.setName("Branch1");
+        when(branchRepositoryMock.findByCode("asd123")).thenReturn(Mono.just(branch));
+
+        StepVerifier.create(branchService.lookByCode("asd123")).expectNext(branch).verifyComplete();
+        StepVerifier.create(branchService.lookByCode("asd123")).expectNext(branch).verifyComplete();
+
+        verify(branchRepositoryMock, times(1)).findByCode("asd123");
+    }
+
+    @Test
+    void testUpdate() {
+        Branch stored = new Branch();
+        stored.setCode("zxc123");
+        stored.setName("branch2");
+        Branch branch = new Branch();
+        branch.setName("branch2");
+        when(branchRepositoryMock.updateDetails("zxc123", "branch2", null, null)).thenReturn(Mono.just(stored));
+        when(revisionRepositoryMock.increment()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(branchService.update("zxc123", branch, null))
+                .expectNextMatches(updated -> "branch2".equals(updated.getName()))
+                .verifyComplete();
+        verify(revisionRepositoryMock, times(1)).increment();
+    }
+
+    @Test
+    void testUpdateNotFound() {
+        when(branchRepositoryMock.updateDetails("zxc123", null, null, null)).thenReturn(Mono.empty());
+
+        StepVerifier.create(branchService.update("zxc123", new Branch(), null))
+                .expectErrorMatches(e -> e instanceof CRUDException && ((CRUDException) e).getErrorCode() == 404)
+                .verify();
+    }
+
+    @Test
+    void testGetPageProjected() {
+        Branch branch = new Branch();
+        branch.setCode("asd123");
+        when(branchRepositoryMock.findProjected("abc", 11, Set.of("code"))).thenReturn(Flux.just(branch));
+
+        StepVerifier.create(branchService.getPage("abc", 11, Set.of("code"))).expectNext(branch).verifyComplete();
+
+        verify(branchRepositoryMock, never()).findByCodeGreaterThan(any(), any());
+    }
+}
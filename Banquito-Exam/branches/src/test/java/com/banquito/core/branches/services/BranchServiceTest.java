@@ -11,21 +11,25 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
 import org.mockito.MockitoAnnotations;
 
+import com.banquito.core.branches.cache.BranchCache;
 import com.banquito.core.branches.exception.CRUDException;
 import com.banquito.core.branches.model.Branch;
 import com.banquito.core.branches.repository.BranchRepository;
+import com.banquito.core.branches.repository.BranchRevisionRepository;
 import com.banquito.core.branches.service.BranchService;
+import com.banquito.core.branches.search.BranchGeoIndex;
+import com.banquito.core.branches.search.BranchSearchIndex;
 
 public class BranchServiceTest {
 
@@ -37,10 +41,14 @@ public class BranchServiceTest {
     @Mock
     private BranchRepository branchRepositoryMock;
 
+    @Mock
+    private BranchRevisionRepository revisionRepositoryMock;
+
     @BeforeEach
     void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
-        branchService = new BranchService(branchRepositoryMock);
+        branchService = new BranchService(branchRepositoryMock, new BranchCache(100, 60), revisionRepositoryMock,
+                new BranchSearchIndex(), new BranchGeoIndex(0.05));
     }
 
     @Test
@@ -112,6 +120,42 @@ public class BranchServiceTest {
         verify(branchRepositoryMock, times(1)).findByCode(code);
     }
 
+    @Test
+    void testLookByCodeServedFromCache() {
+        String code = "asd123";
+        Branch branch = new Branch();
+        branch.setCode(code);
+        branch.setName("Branch1");
+        when(branchRepositoryMock.findByCode(code)).thenReturn(branch);
+
+        branchService.lookByCode(code);
+        Branch result = branchService.lookByCode(code);
+
+        assertEquals("Branch1", result.getName());
+        verify(branchRepositoryMock, times(1)).findByCode(code);
+    }
+
+    @Test
+    void testLookByCodes() {
+        Branch cached = new Branch();
+        cached.setCode("asd123");
+        cached.setName("Branch1");
+        when(branchRepositoryMock.findByCode("asd123")).thenReturn(cached);
+        branchService.lookByCode("asd123");
+
+        Branch stored = new Branch();
+        stored.setCode("zxc123");
+        stored.setName("Branch2");
+        when(branchRepositoryMock.findByCodeIn(Arrays.asList("zxc123", "qwe123"))).thenReturn(Arrays.asList(stored));
+
+        List<Branch> result = branchService.lookByCodes(Arrays.asList("asd123", "zxc123", "qwe123"));
+
+        assertEquals(2, result.size());
+        assertEquals("asd123", result.get(0).getCode());
+        assertEquals("zxc123", result.get(1).getCode());
+        verify(branchRepositoryMock, times(1)).findByCodeIn(Arrays.asList("zxc123", "qwe123"));
+    }
+
     @Test
     void testLookByIdWithValidId() throws CRUDException {
         String id = "asd123";
@@ -149,20 +193,57 @@ public class BranchServiceTest {
 
     @Test
     void testUpdate() throws CRUDException {
-        ArgumentCaptor<Branch> argument = ArgumentCaptor.forClass(Branch.class);
-
         String name = "branch2";
         String code = "zxc123";
         Branch branch = new Branch();
+        branch.setName(name);
 
-        branch.setCode("zxc123");
+        Branch updated = new Branch();
+        updated.setCode(code);
+        updated.setName(name);
+        updated.setVersion(1L);
+        when(branchRepositoryMock.updateDetails(code, name, null, null)).thenReturn(updated);
+
+        Branch result = branchService.update(code, branch);
+
+        assertEquals(name, result.getName());
+        assertEquals(name, branchService.lookByCode(code).getName());
+        verify(branchRepositoryMock, times(0)).findByCode(code);
+        verify(branchRepositoryMock, times(0)).save(any(Branch.class));
+        verify(revisionRepositoryMock, times(1)).increment();
+
+    }
+
+    @Test
+    void testUpdateNotFound() {
+        Branch branch = new Branch();
         branch.setName("branch2");
-        when(branchRepositoryMock.findByCode(any(String.class))).thenReturn(branch);
+        when(branchRepositoryMock.updateDetails("zxc123", "branch2", null, null)).thenReturn(null);
 
-        branchService.update(code, branch);
-        verify(branchRepositoryMock).save(argument.capture());
-        assertEquals(name, argument.getValue().getName());
+        try {
+            branchService.update("zxc123", branch);
+            fail("Expected CRUDException to be thrown");
+        } catch (CRUDException e) {
+            assertEquals(404, e.getErrorCode());
+        }
+    }
 
+    @Test
+    void testUpdateVersionMismatch() {
+        Branch branch = new Branch();
+        branch.setCode("zxc123");
+        branch.setName("branch2");
+        branch.setVersion(2L);
+        when(branchRepositoryMock.updateDetails("zxc123", "branch2", null, 1L)).thenReturn(null);
+        when(branchRepositoryMock.findByCode("zxc123")).thenReturn(branch);
+
+        try {
+            branchService.update("zxc123", branch, 1L);
+            fail("Expected CRUDException to be thrown");
+        } catch (CRUDException e) {
+            assertEquals(412, e.getErrorCode());
+        }
+        verify(revisionRepositoryMock, times(0)).increment();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+#!/bin/sh
+# Compares throughput, p99 latency and live JVM threads of the branches
+# service started in the default (servlet) mode and with the reactive profile,
+# at increasing concurrency. Needs hey: https://github.com/rakyll/hey
+#
+# usage: compare-execution-modes.sh <servlet-base-url> <reactive-base-url> <path> [duration] [concurrency...]
+# e.g.   compare-execution-modes.sh http://localhost:8081 http://localhost:9081 \
+#            /api/v1/branches/UIO001 30s 50 200 800 2000
+#
+# Writes mode,concurrency,requests_per_second,p99_seconds,errors,threads_live to stdout as CSV.
+set -eu
+
+if [ $# -lt 3 ]; then
+    sed -n '2,10p' "$0"
+    exit 1
+fi
+
+SERVLET_URL=$1
+REACTIVE_URL=$2
+REQUEST_PATH=$3
+DURATION=${4:-30s}
+shift 3
+[ $# -gt 0 ] && shift
+CONCURRENCY=${*:-50 200 800 2000}
+
+threads() {
+    curl -s "$1/actuator/metrics/jvm.threads.live" | sed -n 's/.*"value":\([0-9.]*\).*/\1/p'
+}
+
+run() {
+    mode=$1
+    url=$2
+    concurrency=$3
+    output=$(hey -z "$DURATION" -c "$concurrency" "$url$REQUEST_PATH")
+    rps=$(echo "$output" | awk '/Requests\/sec:/ { print $2 }')
+    p99=$(echo "$output" | awk '/ 99% in / { print $3 }')
+    errors=$(echo "$output" | awk '/^\[[0-9]+\]/ && $1 != "[200]" { sum += $2 } END { print sum + 0 }')
+    echo "$mode,$concurrency,$rps,$p99,$errors,$(threads "$url")"
+}
+
+echo "mode,concurrency,requests_per_second,p99_seconds,errors,threads_live"
+for concurrency in $CONCURRENCY; do
+    run servlet "$SERVLET_URL" "$concurrency"
+    run reactive "$REACTIVE_URL" "$concurrency"
+done
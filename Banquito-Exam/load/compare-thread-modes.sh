@@ -0,0 +1,40 @@
+#!/bin/sh
+# Compares throughput and p99 latency of the same endpoint served by a
+# platform-thread build and a virtual-thread build (mvn -Pvirtual-threads)
+# at increasing concurrency. Needs hey: https://github.com/rakyll/hey
+#
+# usage: compare-thread-modes.sh <platform-url> <virtual-url> [duration] [concurrency...]
+# e.g.   compare-thread-modes.sh http://localhost:8082/api/v1/productsaccounts/P1 \
+#            http://localhost:9082/api/v1/productsaccounts/P1 30s 50 200 800 2000
+#
+# Writes mode,concurrency,requests_per_second,p99_seconds,errors to stdout as CSV.
+set -eu
+
+if [ $# -lt 2 ]; then
+    sed -n '2,10p' "$0"
+    exit 1
+fi
+
+PLATFORM_URL=$1
+VIRTUAL_URL=$2
+DURATION=${3:-30s}
+shift 2
+[ $# -gt 0 ] && shift
+CONCURRENCY=${*:-50 200 800 2000}
+
+run() {
+    mode=$1
+    url=$2
+    concurrency=$3
+    output=$(hey -z "$DURATION" -c "$concurrency" "$url")
+    rps=$(echo "$output" | awk '/Requests\/sec:/ { print $2 }')
+    p99=$(echo "$output" | awk '/ 99% in / { print $3 }')
+    errors=$(echo "$output" | awk '/^\[[0-9]+\]/ && $1 != "[200]" { sum += $2 } END { print sum + 0 }')
+    echo "$mode,$concurrency,$rps,$p99,$errors"
+}
+
+echo "mode,concurrency,requests_per_second,p99_seconds,errors"
+for concurrency in $CONCURRENCY; do
+    run platform "$PLATFORM_URL" "$concurrency"
+    run virtual "$VIRTUAL_URL" "$concurrency"
+done
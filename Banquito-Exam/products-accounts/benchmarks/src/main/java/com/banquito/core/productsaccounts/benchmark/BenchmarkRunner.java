@@ -0,0 +1,42 @@
+package com.banquito.core.productsaccounts.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the usual JMH command line and, unless
+ * told otherwise, writes the results as JSON to
+ * {@code jmh-<artifact>-<version>.json} so runs of different releases can be
+ * compared.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        if (commandLine.shouldList()) {
+            new Runner(commandLine).list();
+            return;
+        }
+        if (commandLine.shouldListWithParams()) {
+            new Runner(commandLine).listWithParams(commandLine);
+            return;
+        }
+        Package metadata = BenchmarkRunner.class.getPackage();
+        String artifact = metadata.getImplementationTitle() == null ? "benchmarks"
+                : metadata.getImplementationTitle();
+        String version = metadata.getImplementationVersion() == null ? "dev" : metadata.getImplementationVersion();
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLine.getResult().orElse("jmh-" + artifact + "-" + version + ".json"))
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,102 @@
+package com.banquito.core.productsaccounts.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+
+/**
+ * FixedDecimal against the BigDecimal code it replaced, on the operations the
+ * accrual engine and the JSON layer run per record: parsing, interest
+ * (balance times rate, rounded half-even to cents) and summing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixedDecimalBenchmark {
+
+    private static final int VALUES = 1024;
+
+    private String[] balanceTexts;
+    private FixedDecimal[] balances;
+    private BigDecimal[] bigBalances;
+    private FixedDecimal rate;
+    private BigDecimal bigRate;
+
+    @Setup
+    public void setUp() {
+        this.balanceTexts = new String[VALUES];
+        this.balances = new FixedDecimal[VALUES];
+        this.bigBalances = new BigDecimal[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            long cents = 1_000_00L + i * 7_919L;
+            this.bigBalances[i] = BigDecimal.valueOf(cents, 2);
+            this.balanceTexts[i] = this.bigBalances[i].toPlainString();
+            this.balances[i] = FixedDecimal.ofUnscaled(cents, 2);
+        }
+        this.rate = FixedDecimal.of("0.0525");
+        this.bigRate = new BigDecimal("0.0525");
+    }
+
+    @Benchmark
+    public void parseFixedDecimal(Blackhole blackhole) {
+        for (String text : this.balanceTexts) {
+            blackhole.consume(FixedDecimal.of(text));
+        }
+    }
+
+    @Benchmark
+    public void parseBigDecimal(Blackhole blackhole) {
+        for (String text : this.balanceTexts) {
+            blackhole.consume(new BigDecimal(text));
+        }
+    }
+
+    @Benchmark
+    public void interestFixedDecimal(Blackhole blackhole) {
+        for (FixedDecimal balance : this.balances) {
+            blackhole.consume(balance.multiply(this.rate, 2, RoundingMode.HALF_EVEN));
+        }
+    }
+
+    @Benchmark
+    public void interestBigDecimal(Blackhole blackhole) {
+        for (BigDecimal balance : this.bigBalances) {
+            blackhole.consume(balance.multiply(this.bigRate).setScale(2, RoundingMode.HALF_EVEN));
+        }
+    }
+
+    @Benchmark
+    public FixedDecimal sumFixedDecimal() {
+        FixedDecimal total = FixedDecimal.ZERO;
+        for (FixedDecimal balance : this.balances) {
+            total = total.add(balance);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal sumBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal balance : this.bigBalances) {
+            total = total.add(balance);
+        }
+        return total;
+    }
+}
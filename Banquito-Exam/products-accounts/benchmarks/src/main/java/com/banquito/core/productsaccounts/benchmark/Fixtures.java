@@ -0,0 +1,76 @@
+package com.banquito.core.productsaccounts.benchmark;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.model.ProductAccount;
+
+/**
+ * Deterministic product account and interest rate data shared by the
+ * benchmarks.
+ */
+final class Fixtures {
+
+    static final int RATE_NAMES = 20;
+    static final int RATE_PERIOD_DAYS = 30;
+    static final LocalDate FIRST_START = LocalDate.of(2020, 1, 1);
+
+    private Fixtures() {
+    }
+
+    static String productAccountId(int index) {
+        return String.format("PA%08d", index);
+    }
+
+    static String rateName(int index) {
+        return "RATE-" + (index % RATE_NAMES);
+    }
+
+    static List<ProductAccount> productAccounts(int size) {
+        List<ProductAccount> productAccounts = new ArrayList<>(size);
+        Date created = toDate(FIRST_START);
+        for (int i = 0; i < size; i++) {
+            ProductAccount productAccount = new ProductAccount();
+            productAccount.setId(productAccountId(i));
+            productAccount.setName("Cuenta " + i);
+            productAccount.setDescription("Cuenta de ahorros tipo " + (i % 10));
+            productAccount.setMinimunBalance(FixedDecimal.ofUnscaled(10000L + i, 2));
+            productAccount.setPayInterest(i % 3 == 0 ? "N" : "Y");
+            productAccount.setAcceptsChecks(i % 2 == 0 ? "Y" : "N");
+            productAccount.setState("ACT");
+            productAccount.setCreationDate(created);
+            productAccounts.add(productAccount);
+        }
+        return productAccounts;
+    }
+
+    /**
+     * Every name gets consecutive, non overlapping periods of
+     * {@link #RATE_PERIOD_DAYS} days starting at {@link #FIRST_START}.
+     */
+    static List<InterestRate> interestRates(int size) {
+        List<InterestRate> interestRates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDate start = FIRST_START.plusDays((long) (i / RATE_NAMES) * RATE_PERIOD_DAYS);
+            InterestRate interestRate = new InterestRate();
+            interestRate.setId(i + 1);
+            interestRate.setName(rateName(i));
+            interestRate.setInterestRate(FixedDecimal.ofUnscaled(100L + i % 900, 4));
+            interestRate.setState("ACT");
+            interestRate.setStart(toDate(start));
+            interestRate.setEnd(toDate(start.plusDays(RATE_PERIOD_DAYS - 1)));
+            interestRate.setVersion(0L);
+            interestRates.add(interestRate);
+        }
+        return interestRates;
+    }
+
+    static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
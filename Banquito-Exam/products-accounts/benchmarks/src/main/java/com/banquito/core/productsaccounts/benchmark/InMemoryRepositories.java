@@ -0,0 +1,131 @@
+package com.banquito.core.productsaccounts.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import com.banquito.core.productsaccounts.controller.dto.InterestRateRQRS;
+import com.banquito.core.productsaccounts.controller.dto.ProductAccountRQRS;
+import com.banquito.core.productsaccounts.controller.mapper.InterestRateMapper;
+import com.banquito.core.productsaccounts.controller.mapper.ProductAccountMapper;
+import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.model.ProductAccount;
+import com.banquito.core.productsaccounts.repository.InterestRateRepository;
+import com.banquito.core.productsaccounts.repository.ProductAccountRepository;
+
+/**
+ * Map-backed stand-ins for the JPA repositories covering the read methods used
+ * by the services, so service benchmarks measure the service and not
+ * Postgres. Views are built with the mappers, the way the constructor
+ * expressions would fill them. Any other method throws.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    static ProductAccountRepository productAccounts(Collection<ProductAccount> productAccounts) {
+        TreeMap<String, ProductAccount> byId = new TreeMap<>();
+        for (ProductAccount productAccount : productAccounts) {
+            byId.put(productAccount.getId(), productAccount);
+        }
+        return proxy(ProductAccountRepository.class, (method, args) -> {
+            switch (method.getName()) {
+                case "findById":
+                    return Optional.ofNullable(byId.get((String) args[0]));
+                case "findAll":
+                    return new ArrayList<>(byId.values());
+                case "findByState":
+                    return byState(byId.values(), (String) args[0]);
+                case "findViewsByState":
+                    return ProductAccountMapper.mapToList(byState(byId.values(), (String) args[0]));
+                case "findViewsById":
+                    ProductAccount productAccount = byId.get((String) args[0]);
+                    return productAccount == null ? List.of()
+                            : List.of(ProductAccountMapper.mapToProductAccountRQRS(productAccount));
+                case "findViewsByStatePage":
+                    Collection<ProductAccount> from = args[1] == null ? byId.values()
+                            : byId.tailMap((String) args[1], false).values();
+                    List<ProductAccountRQRS> page = new ArrayList<>();
+                    for (ProductAccount candidate : from) {
+                        if (page.size() >= (Integer) args[2]) {
+                            break;
+                        }
+                        if (args[0].equals(candidate.getState())) {
+                            page.add(ProductAccountMapper.mapToProductAccountRQRS(candidate));
+                        }
+                    }
+                    return page;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    static InterestRateRepository interestRates(Collection<InterestRate> interestRates) {
+        TreeMap<Integer, InterestRate> byId = new TreeMap<>();
+        for (InterestRate interestRate : interestRates) {
+            byId.put(interestRate.getId(), interestRate);
+        }
+        return proxy(InterestRateRepository.class, (method, args) -> {
+            switch (method.getName()) {
+                case "findById":
+                    return Optional.ofNullable(byId.get((Integer) args[0]));
+                case "findAll":
+                    return new ArrayList<>(byId.values());
+                case "findByState":
+                    List<InterestRate> found = new ArrayList<>();
+                    for (InterestRate interestRate : byId.values()) {
+                        if (args[0].equals(interestRate.getState())) {
+                            found.add(interestRate);
+                        }
+                    }
+                    return found;
+                case "findViewsById":
+                    InterestRate interestRate = byId.get((Integer) args[0]);
+                    return interestRate == null ? List.<InterestRateRQRS>of()
+                            : List.of(InterestRateMapper.mapToInterestRateRQRS(interestRate));
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private static List<ProductAccount> byState(Collection<ProductAccount> productAccounts, String state) {
+        List<ProductAccount> found = new ArrayList<>();
+        for (ProductAccount productAccount : productAccounts) {
+            if (state.equals(productAccount.getState())) {
+                found.add(productAccount);
+            }
+        }
+        return found;
+    }
+
+    private static <T> T proxy(Class<T> repositoryClass, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "InMemory" + repositoryClass.getSimpleName();
+                default:
+                    return handler.handle(method, args);
+            }
+        };
+        return repositoryClass.cast(Proxy.newProxyInstance(repositoryClass.getClassLoader(),
+                new Class<?>[] { repositoryClass }, invocationHandler));
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        Object handle(Method method, Object[] args);
+    }
+}
@@ -0,0 +1,88 @@
+package com.banquito.core.productsaccounts.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.banquito.core.productsaccounts.cache.InterestRateIntervalIndex;
+import com.banquito.core.productsaccounts.cache.InterestRateTable;
+import com.banquito.core.productsaccounts.controller.dto.InterestRateRQRS;
+import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.repository.InterestRateRepository;
+import com.banquito.core.productsaccounts.service.InterestRateService;
+
+/**
+ * Read paths of {@link InterestRateService} over the in-memory repository,
+ * with the active table and the interval index loaded as at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterestRateServiceBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({ "1000", "100000" })
+    private int size;
+
+    private InterestRateService service;
+    private final Set<String> fields = Set.of("name", "interestRate");
+    private Integer id;
+    private String name;
+    private LocalDate date;
+
+    @Setup
+    public void setUp() {
+        InterestRateRepository repository = InMemoryRepositories.interestRates(Fixtures.interestRates(this.size));
+        InterestRateTable table = new InterestRateTable(repository);
+        InterestRateIntervalIndex intervals = new InterestRateIntervalIndex(repository);
+        table.load();
+        intervals.load();
+        this.service = new InterestRateService(repository, table, intervals);
+        this.id = this.size / 2;
+        this.name = Fixtures.rateName(this.size / 2);
+        int periods = this.size / Fixtures.RATE_NAMES;
+        this.date = Fixtures.FIRST_START.plusDays((long) (periods / 2) * Fixtures.RATE_PERIOD_DAYS + 10);
+    }
+
+    @Benchmark
+    public List<InterestRate> listAllActives() {
+        return this.service.listAllActives();
+    }
+
+    @Benchmark
+    public List<InterestRate> listAllActivesWithFields() {
+        return this.service.listAllActives(this.fields);
+    }
+
+    @Benchmark
+    public List<InterestRate> listActivesPage() {
+        return this.service.listActivesPage(this.id, PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public InterestRateRQRS obtainViewById() {
+        return this.service.obtainViewById(this.id);
+    }
+
+    @Benchmark
+    public InterestRate obtainEffective() {
+        return this.service.obtainEffective(this.name, this.date);
+    }
+}
@@ -0,0 +1,87 @@
+package com.banquito.core.productsaccounts.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.banquito.core.productsaccounts.controller.dto.InterestRateRQRS;
+import com.banquito.core.productsaccounts.controller.dto.ProductAccountRQRS;
+import com.banquito.core.productsaccounts.controller.mapper.InterestRateMapper;
+import com.banquito.core.productsaccounts.controller.mapper.ProductAccountMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Jackson cost of the product account and interest rate listings, with a
+ * mapper set up like the one Spring Boot builds. Amounts and rates go through
+ * the FixedDecimal serializer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({ "100", "10000" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private JavaType productAccountListType;
+    private JavaType interestRateListType;
+    private List<ProductAccountRQRS> productAccounts;
+    private List<InterestRateRQRS> interestRates;
+    private byte[] productAccountsJson;
+    private byte[] interestRatesJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        this.objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.productAccountListType = this.objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ProductAccountRQRS.class);
+        this.interestRateListType = this.objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, InterestRateRQRS.class);
+        this.productAccounts = ProductAccountMapper.mapToList(Fixtures.productAccounts(this.size));
+        this.interestRates = InterestRateMapper.mapToList(Fixtures.interestRates(this.size));
+        this.productAccountsJson = this.objectMapper.writeValueAsBytes(this.productAccounts);
+        this.interestRatesJson = this.objectMapper.writeValueAsBytes(this.interestRates);
+    }
+
+    @Benchmark
+    public byte[] serializeProductAccounts() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.productAccounts);
+    }
+
+    @Benchmark
+    public List<ProductAccountRQRS> deserializeProductAccounts() throws Exception {
+        return this.objectMapper.readValue(this.productAccountsJson, this.productAccountListType);
+    }
+
+    @Benchmark
+    public byte[] serializeInterestRates() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.interestRates);
+    }
+
+    @Benchmark
+    public List<InterestRateRQRS> deserializeInterestRates() throws Exception {
+        return this.objectMapper.readValue(this.interestRatesJson, this.interestRateListType);
+    }
+}
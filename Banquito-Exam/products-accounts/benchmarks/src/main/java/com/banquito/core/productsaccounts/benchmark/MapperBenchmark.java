@@ -0,0 +1,73 @@
+package com.banquito.core.productsaccounts.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.banquito.core.productsaccounts.controller.dto.InterestRateRQRS;
+import com.banquito.core.productsaccounts.controller.dto.ProductAccountRQRS;
+import com.banquito.core.productsaccounts.controller.mapper.InterestRateMapper;
+import com.banquito.core.productsaccounts.controller.mapper.ProductAccountMapper;
+import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.model.ProductAccount;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({ "100", "10000" })
+    private int size;
+
+    private List<ProductAccount> productAccounts;
+    private List<ProductAccountRQRS> productAccountsRQRS;
+    private List<InterestRate> interestRates;
+    private List<InterestRateRQRS> interestRatesRQRS;
+
+    @Setup
+    public void setUp() {
+        this.productAccounts = Fixtures.productAccounts(this.size);
+        this.productAccountsRQRS = ProductAccountMapper.mapToList(this.productAccounts);
+        this.interestRates = Fixtures.interestRates(this.size);
+        this.interestRatesRQRS = InterestRateMapper.mapToList(this.interestRates);
+    }
+
+    @Benchmark
+    public List<ProductAccountRQRS> productAccountMapToList() {
+        return ProductAccountMapper.mapToList(this.productAccounts);
+    }
+
+    @Benchmark
+    public void productAccountMapToProductAccount(Blackhole blackhole) {
+        for (ProductAccountRQRS productAccountRQRS : this.productAccountsRQRS) {
+            blackhole.consume(ProductAccountMapper.mapToProductAccount(productAccountRQRS));
+        }
+    }
+
+    @Benchmark
+    public List<InterestRateRQRS> interestRateMapToList() {
+        return InterestRateMapper.mapToList(this.interestRates);
+    }
+
+    @Benchmark
+    public void interestRateMapToInterestRate(Blackhole blackhole) {
+        for (InterestRateRQRS interestRateRQRS : this.interestRatesRQRS) {
+            blackhole.consume(InterestRateMapper.mapToInterestRate(interestRateRQRS));
+        }
+    }
+}
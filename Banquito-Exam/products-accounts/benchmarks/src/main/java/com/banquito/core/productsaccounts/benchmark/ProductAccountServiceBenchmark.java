@@ -0,0 +1,80 @@
+package com.banquito.core.productsaccounts.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.banquito.core.productsaccounts.cache.ProductAccountCatalogCache;
+import com.banquito.core.productsaccounts.controller.dto.ProductAccountRQRS;
+import com.banquito.core.productsaccounts.repository.ProductAccountRepository;
+import com.banquito.core.productsaccounts.service.ProductAccountService;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Read paths of {@link ProductAccountService} over the in-memory repository.
+ * {@link #encodeCatalog()} measures a catalog rebuild after a write, and
+ * {@link #listAllActivesEncoded()} the cached catalog every other read gets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductAccountServiceBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({ "100", "10000" })
+    private int size;
+
+    private ProductAccountCatalogCache catalogCache;
+    private ProductAccountService service;
+    private String id;
+
+    @Setup
+    public void setUp() {
+        ProductAccountRepository repository = InMemoryRepositories
+                .productAccounts(Fixtures.productAccounts(this.size));
+        this.catalogCache = new ProductAccountCatalogCache(repository, JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+        this.service = new ProductAccountService(repository, this.catalogCache);
+        this.id = Fixtures.productAccountId(this.size / 2);
+        this.service.listAllActivesEncoded();
+    }
+
+    @Benchmark
+    public ProductAccountCatalogCache.Encoded listAllActivesEncoded() {
+        return this.service.listAllActivesEncoded();
+    }
+
+    @Benchmark
+    public ProductAccountCatalogCache.Encoded encodeCatalog() {
+        this.catalogCache.invalidate();
+        return this.service.listAllActivesEncoded();
+    }
+
+    @Benchmark
+    public ProductAccountRQRS obtainViewById() {
+        return this.service.obtainViewById(this.id);
+    }
+
+    @Benchmark
+    public List<ProductAccountRQRS> listActiveViewsPage() {
+        return this.service.listActiveViewsPage(this.id, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,57 @@
+package com.banquito.core.productsaccounts.accrual;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Append-only list of the chunk files an accrual run has completed. Each
+ * entry is synced to disk after the chunk output is in place, so a restarted
+ * run skips exactly the chunks that were fully written. The first line names
+ * the run, so a checkpoint is never resumed with a different rate.
+ */
+public class AccrualCheckpoint {
+
+    private static final String HEADER = "# ";
+
+    private final Path file;
+    private final String run;
+
+    public AccrualCheckpoint(Path file, String run) {
+        this.file = file;
+        this.run = run;
+    }
+
+    /**
+     * @return the completed chunks, empty for a new run
+     * @throws IOException when the checkpoint belongs to another run
+     */
+    public Set<String> load() throws IOException {
+        Set<String> completed = new HashSet<>();
+        if (!Files.exists(this.file)) {
+            Files.writeString(this.file, HEADER + this.run + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.SYNC);
+            return completed;
+        }
+        List<String> lines = Files.readAllLines(this.file, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(HEADER + this.run)) {
+            throw new IOException("Checkpoint " + this.file + " does not belong to run: " + this.run);
+        }
+        for (String line : lines.subList(1, lines.size())) {
+            if (!line.isBlank()) {
+                completed.add(line.trim());
+            }
+        }
+        return completed;
+    }
+
+    public void complete(String chunk) throws IOException {
+        Files.writeString(this.file, chunk + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+    }
+}
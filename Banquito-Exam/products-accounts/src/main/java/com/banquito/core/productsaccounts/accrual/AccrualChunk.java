@@ -0,0 +1,145 @@
+package com.banquito.core.productsaccounts.accrual;
+
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fork-join task computing the accruals of a range of input lines. Lines are
+ * {@code account,productAccount,balance}; every valid line produces
+ * {@code account,productAccount,balance,accrual} at the same index of the
+ * output array, invalid or blank lines leave it null. Each record is rounded
+ * on its own, so the result does not depend on how the range is split.
+ */
+public class AccrualChunk extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String[] lines;
+    private final String[] output;
+    private final int from;
+    private final int to;
+    private final Context context;
+
+    /**
+     * Accrues only the first count lines, so one pair of arrays can be reused
+     * for every batch of a chunk file.
+     */
+    public AccrualChunk(String[] lines, String[] output, int count, Context context) {
+        this(lines, output, 0, count, context);
+    }
+
+    private AccrualChunk(String[] lines, String[] output, int from, int to, Context context) {
+        this.lines = lines;
+        this.output = output;
+        this.from = from;
+        this.to = to;
+        this.context = context;
+    }
+
+    @Override
+    protected void compute() {
+        if (this.to - this.from <= this.context.splitThreshold) {
+            this.accrue();
+            return;
+        }
+        int mid = (this.from + this.to) >>> 1;
+        invokeAll(new AccrualChunk(this.lines, this.output, this.from, mid, this.context),
+                new AccrualChunk(this.lines, this.output, mid, this.to, this.context));
+    }
+
+    private void accrue() {
+        long records = 0;
+        long accrued = 0;
+        long ineligible = 0;
+        long invalid = 0;
+        long total = 0;
+        StringBuilder builder = new StringBuilder(64);
+        for (int i = this.from; i < this.to; i++) {
+            String line = this.lines[i];
+            if (line == null || line.isBlank()) {
+                continue;
+            }
+            int first = line.indexOf(',');
+            int second = first < 0 ? -1 : line.indexOf(',', first + 1);
+            if (second < 0) {
+                invalid++;
+                continue;
+            }
+            long balance;
+            try {
+                balance = AccrualMath.parseCents(line, second + 1, line.length());
+            } catch (NumberFormatException | ArithmeticException e) {
+                invalid++;
+                continue;
+            }
+            records++;
+            Eligibility product = this.context.products.get(line.substring(first + 1, second));
+            long accrual = 0;
+            if (product != null && product.payInterest() && balance >= product.minimumCents()) {
+                accrual = AccrualMath.dailyAccrual(balance, this.context.rateUnits, this.context.daysInYear);
+                accrued++;
+                total += accrual;
+            } else {
+                ineligible++;
+            }
+            builder.setLength(0);
+            builder.append(line, 0, second + 1);
+            AccrualMath.appendCents(builder, balance);
+            builder.append(',');
+            AccrualMath.appendCents(builder, accrual);
+            this.output[i] = builder.toString();
+        }
+        this.context.records.add(records);
+        this.context.accrued.add(accrued);
+        this.context.ineligible.add(ineligible);
+        this.context.invalid.add(invalid);
+        this.context.totalCents.add(total);
+    }
+
+    public record Eligibility(boolean payInterest, long minimumCents) {
+    }
+
+    /**
+     * State shared by every task of one accrual run.
+     */
+    public static class Context {
+
+        private final Map<String, Eligibility> products;
+        private final long rateUnits;
+        private final int daysInYear;
+        private final int splitThreshold;
+        private final LongAdder records = new LongAdder();
+        private final LongAdder accrued = new LongAdder();
+        private final LongAdder ineligible = new LongAdder();
+        private final LongAdder invalid = new LongAdder();
+        private final LongAdder totalCents = new LongAdder();
+
+        public Context(Map<String, Eligibility> products, long rateUnits, int daysInYear, int splitThreshold) {
+            this.products = products;
+            this.rateUnits = rateUnits;
+            this.daysInYear = daysInYear;
+            this.splitThreshold = splitThreshold;
+        }
+
+        public long getRecords() {
+            return this.records.sum();
+        }
+
+        public long getAccrued() {
+            return this.accrued.sum();
+        }
+
+        public long getIneligible() {
+            return this.ineligible.sum();
+        }
+
+        public long getInvalid() {
+            return this.invalid.sum();
+        }
+
+        public long getTotalCents() {
+            return this.totalCents.sum();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.banquito.core.productsaccounts.accrual;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+
+/**
+ * Fixed-point arithmetic used by the accrual engine. Balances are handled as
+ * cents and annual rates as units of 10^-8, so the daily accrual of a balance
+ * is one multiplication and one division rounded half-even. Values that would
+ * overflow a long fall back to BigDecimal with the same rounding.
+ */
+public final class AccrualMath {
+
+    public static final int RATE_SCALE = 8;
+
+    private static final long CENTS = 100;
+
+    private AccrualMath() {
+    }
+
+    public static long toRateUnits(FixedDecimal rate) {
+        return rate.setScale(RATE_SCALE, RoundingMode.HALF_EVEN).unscaledValue();
+    }
+
+    public static long toCents(FixedDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_EVEN).unscaledValue();
+    }
+
+    public static long dailyAccrual(long balanceCents, long rateUnits, int daysInYear) {
+        long divisor = daysInYear * pow10(RATE_SCALE);
+        try {
+            return divideHalfEven(Math.multiplyExact(balanceCents, rateUnits), divisor);
+        } catch (ArithmeticException e) {
+            return BigDecimal.valueOf(balanceCents)
+                    .multiply(BigDecimal.valueOf(rateUnits))
+                    .divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_EVEN)
+                    .longValueExact();
+        }
+    }
+
+    static long divideHalfEven(long dividend, long divisor) {
+        return FixedDecimal.divide(dividend, divisor, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Parses a decimal amount into cents. Plain amounts with at most two
+     * decimals are parsed without allocation; anything else goes through
+     * FixedDecimal and is rounded half-even.
+     */
+    public static long parseCents(CharSequence text, int from, int to) {
+        int index = from;
+        boolean negative = false;
+        if (index < to && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+            negative = text.charAt(index) == '-';
+            index++;
+        }
+        long units = 0;
+        int digits = 0;
+        while (index < to && Character.isDigit(text.charAt(index)) && digits < 16) {
+            units = units * 10 + (text.charAt(index) - '0');
+            index++;
+            digits++;
+        }
+        long fraction = 0;
+        int decimals = 0;
+        if (index < to && text.charAt(index) == '.') {
+            index++;
+            while (index < to && Character.isDigit(text.charAt(index)) && decimals < 2) {
+                fraction = fraction * 10 + (text.charAt(index) - '0');
+                index++;
+                decimals++;
+            }
+        }
+        if (index != to || (digits == 0 && decimals == 0)) {
+            return toCents(FixedDecimal.of(text.subSequence(from, to).toString()));
+        }
+        long cents = units * CENTS + (decimals == 1 ? fraction * 10 : fraction);
+        return negative ? -cents : cents;
+    }
+
+    public static void appendCents(StringBuilder builder, long cents) {
+        if (cents < 0) {
+            builder.append('-');
+        }
+        long absolute = Math.abs(cents);
+        long fraction = absolute % CENTS;
+        builder.append(absolute / CENTS).append('.');
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        builder.append(fraction);
+    }
+
+    public static FixedDecimal toAmount(long cents) {
+        return FixedDecimal.ofUnscaled(cents, 2);
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,207 @@
+package com.banquito.core.productsaccounts.cache;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.repository.InterestRateRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory interval index over the validity ranges of every interest rate,
+ * active or not, grouped by rate name. Each name keeps its ranges sorted by
+ * start date with a max-end tree on top, so the rate that applied on a given
+ * day is found in O(log n). Writers rebuild only the names they touch and
+ * publish a new immutable map.
+ */
+@Slf4j
+@Component
+public class InterestRateIntervalIndex implements SmartInitializingSingleton {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final InterestRateRepository repository;
+    private final Map<Integer, InterestRate> rates = new HashMap<>();
+    private volatile Map<String, Timeline> timelines = Map.of();
+
+    public InterestRateIntervalIndex(InterestRateRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Built before Tomcat accepts traffic; an effective-rate lookup against a
+     * half-built index would answer 404 for rates that exist.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.load();
+    }
+
+    public synchronized void load() {
+        log.info("Building interest rate interval index");
+        this.rates.clear();
+        for (InterestRate rate : this.repository.findAll()) {
+            if (rate.getId() != null) {
+                this.rates.put(rate.getId(), InterestRateTable.copy(rate));
+            }
+        }
+        Map<String, List<InterestRate>> byName = new HashMap<>();
+        for (InterestRate rate : this.rates.values()) {
+            if (rate.getName() != null && rate.getStart() != null) {
+                byName.computeIfAbsent(rate.getName(), name -> new ArrayList<>()).add(rate);
+            }
+        }
+        Map<String, Timeline> built = new HashMap<>();
+        for (Map.Entry<String, List<InterestRate>> entry : byName.entrySet()) {
+            built.put(entry.getKey(), Timeline.of(entry.getValue()));
+        }
+        this.timelines = Collections.unmodifiableMap(built);
+        log.info("Interest rate interval index built with {} rates and {} names", this.rates.size(), built.size());
+    }
+
+    public InterestRate findEffective(String name, LocalDate date) {
+        Timeline timeline = this.timelines.get(name);
+        return timeline == null ? null : timeline.find(date.toEpochDay());
+    }
+
+    public void apply(InterestRate rate) {
+        this.applyAll(Collections.singletonList(rate));
+    }
+
+    /**
+     * Stores every rate, then rebuilds each touched name once from a single
+     * pass over the stored rates and publishes the new map once.
+     */
+    public synchronized void applyAll(List<InterestRate> rates) {
+        Set<String> touched = new HashSet<>();
+        for (InterestRate rate : rates) {
+            if (rate == null || rate.getId() == null) {
+                continue;
+            }
+            InterestRate previous = this.rates.put(rate.getId(), InterestRateTable.copy(rate));
+            if (previous != null && previous.getName() != null) {
+                touched.add(previous.getName());
+            }
+            if (rate.getName() != null) {
+                touched.add(rate.getName());
+            }
+        }
+        if (touched.isEmpty()) {
+            return;
+        }
+        Map<String, List<InterestRate>> byName = new HashMap<>();
+        for (InterestRate candidate : this.rates.values()) {
+            if (candidate.getStart() != null && touched.contains(candidate.getName())) {
+                byName.computeIfAbsent(candidate.getName(), name -> new ArrayList<>()).add(candidate);
+            }
+        }
+        Map<String, Timeline> rebuilt = new HashMap<>(this.timelines);
+        for (String name : touched) {
+            List<InterestRate> intervals = byName.get(name);
+            if (intervals == null) {
+                rebuilt.remove(name);
+            } else {
+                rebuilt.put(name, Timeline.of(intervals));
+            }
+        }
+        this.timelines = Collections.unmodifiableMap(rebuilt);
+        log.debug("Interest rate interval index refreshed for {} names", touched.size());
+    }
+
+    private static long toEpochDay(Date date) {
+        return Instant.ofEpochMilli(date.getTime()).atZone(ZONE).toLocalDate().toEpochDay();
+    }
+
+    /**
+     * Ranges of one rate name sorted by start day, with an implicit segment
+     * tree holding the latest end day of every subtree. Ends are inclusive and
+     * an open range ends at {@link Long#MAX_VALUE}.
+     */
+    static final class Timeline {
+
+        private final InterestRate[] rates;
+        private final long[] starts;
+        private final long[] maxEnds;
+        private final int leaves;
+
+        private Timeline(InterestRate[] rates, long[] starts, long[] ends) {
+            this.rates = rates;
+            this.starts = starts;
+            int size = 1;
+            while (size < rates.length) {
+                size <<= 1;
+            }
+            this.leaves = size;
+            this.maxEnds = new long[2 * size];
+            Arrays.fill(this.maxEnds, Long.MIN_VALUE);
+            System.arraycopy(ends, 0, this.maxEnds, size, ends.length);
+            for (int node = size - 1; node > 0; node--) {
+                this.maxEnds[node] = Math.max(this.maxEnds[2 * node], this.maxEnds[2 * node + 1]);
+            }
+        }
+
+        static Timeline of(List<InterestRate> intervals) {
+            List<InterestRate> sorted = new ArrayList<>(intervals);
+            sorted.sort(Comparator.comparing((InterestRate rate) -> toEpochDay(rate.getStart()))
+                    .thenComparing(InterestRate::getId));
+            InterestRate[] rates = sorted.toArray(new InterestRate[0]);
+            long[] starts = new long[rates.length];
+            long[] ends = new long[rates.length];
+            for (int i = 0; i < rates.length; i++) {
+                starts[i] = toEpochDay(rates[i].getStart());
+                ends[i] = rates[i].getEnd() == null ? Long.MAX_VALUE : toEpochDay(rates[i].getEnd());
+            }
+            return new Timeline(rates, starts, ends);
+        }
+
+        /**
+         * Returns the range with the latest start that contains the day, so a
+         * newer rate wins over an older one that was never closed.
+         */
+        InterestRate find(long day) {
+            int low = 0;
+            int high = this.starts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.starts[mid] <= day) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            int last = low - 1;
+            if (last < 0) {
+                return null;
+            }
+            int index = this.rightmost(1, 0, this.leaves - 1, last, day);
+            return index < 0 ? null : this.rates[index];
+        }
+
+        private int rightmost(int node, int from, int to, int limit, long day) {
+            if (from > limit || this.maxEnds[node] < day) {
+                return -1;
+            }
+            if (from == to) {
+                return from;
+            }
+            int mid = (from + to) >>> 1;
+            int right = this.rightmost(2 * node + 1, mid + 1, to, limit, day);
+            return right >= 0 ? right : this.rightmost(2 * node, from, mid, limit, day);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.banquito.core.productsaccounts.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.repository.InterestRateRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Immutable snapshot of the active interest rates, indexed by id and by name.
+ * Readers only dereference the current snapshot; writers build a modified copy
+ * and publish it with a single volatile write once the change is stored. The
+ * rates handed out are read-only copies shared by every reader.
+ */
+@Slf4j
+@Component
+public class InterestRateTable implements SmartInitializingSingleton {
+
+    private static final String ACTIVE = "ACT";
+
+    private final InterestRateRepository repository;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public InterestRateTable(InterestRateRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Runs before the web server starts, so the first requests never find an
+     * empty table.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.load();
+    }
+
+    public synchronized void load() {
+        log.info("Loading active interest rate table");
+        Map<Integer, InterestRate> byId = new HashMap<>();
+        for (InterestRate rate : this.repository.findByState(ACTIVE)) {
+            byId.put(rate.getId(), copy(rate));
+        }
+        this.snapshot = Snapshot.of(byId);
+        log.info("Active interest rate table loaded with {} rates", byId.size());
+    }
+
+    public List<InterestRate> getActives() {
+        return this.snapshot.actives;
+    }
+
+    /**
+     * @return the active rates with an id greater than after, in id order
+     */
+    public List<InterestRate> getActivesAfter(Integer after) {
+        List<InterestRate> actives = this.snapshot.actives;
+        if (after == null) {
+            return actives;
+        }
+        int low = 0;
+        int high = actives.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (actives.get(mid).getId() <= after) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return actives.subList(low, actives.size());
+    }
+
+    public InterestRate getById(Integer id) {
+        return this.snapshot.byId.get(id);
+    }
+
+    /**
+     * @return the active rates with the given name, in id order; names are not
+     *         unique, so there may be several
+     */
+    public List<InterestRate> getByName(String name) {
+        return this.snapshot.byName.getOrDefault(name, List.of());
+    }
+
+    public int size() {
+        return this.snapshot.actives.size();
+    }
+
+    public void apply(InterestRate rate) {
+        this.applyAll(Collections.singletonList(rate));
+    }
+
+    /**
+     * Applies every rate to one copy of the current snapshot and publishes it
+     * once, so a bulk import costs a single rebuild instead of one per row.
+     */
+    public synchronized void applyAll(List<InterestRate> rates) {
+        Map<Integer, InterestRate> byId = new HashMap<>(this.snapshot.byId);
+        int applied = 0;
+        for (InterestRate rate : rates) {
+            if (rate == null || rate.getId() == null) {
+                continue;
+            }
+            if (ACTIVE.equals(rate.getState())) {
+                byId.put(rate.getId(), copy(rate));
+            } else {
+                byId.remove(rate.getId());
+            }
+            applied++;
+        }
+        if (applied == 0) {
+            return;
+        }
+        this.snapshot = Snapshot.of(byId);
+        log.debug("Active interest rate table refreshed with {} rates, {} active", applied, byId.size());
+    }
+
+    public static InterestRate project(InterestRate rate, Set<String> fields) {
+        InterestRate projected = new InterestRate();
+        BeanWrapper source = new BeanWrapperImpl(rate);
+        BeanWrapper target = new BeanWrapperImpl(projected);
+        for (String field : fields) {
+            target.setPropertyValue(field, source.getPropertyValue(field));
+        }
+        return projected;
+    }
+
+    /**
+     * Detached read-only copy of the rate, so cached rates never alias managed
+     * entities and readers cannot change what other readers see. Also used by
+     * {@link InterestRateIntervalIndex}.
+     */
+    static InterestRate copy(InterestRate rate) {
+        return new ReadOnlyInterestRate(rate);
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), List.of());
+
+        private final Map<Integer, InterestRate> byId;
+        private final Map<String, List<InterestRate>> byName;
+        private final List<InterestRate> actives;
+
+        private Snapshot(Map<Integer, InterestRate> byId, Map<String, List<InterestRate>> byName,
+                List<InterestRate> actives) {
+            this.byId = byId;
+            this.byName = byName;
+            this.actives = actives;
+        }
+
+        private static Snapshot of(Map<Integer, InterestRate> rates) {
+            List<InterestRate> actives = new ArrayList<>(rates.values());
+            actives.sort(Comparator.comparing(InterestRate::getId));
+            Map<String, List<InterestRate>> byName = new HashMap<>();
+            for (InterestRate rate : actives) {
+                byName.computeIfAbsent(rate.getName(), name -> new ArrayList<>(1)).add(rate);
+            }
+            byName.replaceAll((name, named) -> Collections.unmodifiableList(named));
+            return new Snapshot(Collections.unmodifiableMap(rates), Collections.unmodifiableMap(byName),
+                    Collections.unmodifiableList(actives));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.banquito.core.productsaccounts.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.banquito.core.productsaccounts.controller.dto.ProductAccountRQRS;
+import com.banquito.core.productsaccounts.repository.ProductAccountRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Encoded response of the active product account catalog. The catalog is read
+ * straight into its response views and the JSON is serialized once, together
+ * with its gzip form, and served as-is until a write invalidates it; the next
+ * read encodes the catalog again. Invalidation waits for an encoding in
+ * progress, so a catalog read before a write is never kept after it. The lock
+ * is a ReentrantLock rather than a monitor so a virtual thread reading the
+ * catalog from the database does not pin its carrier.
+ */
+@Slf4j
+@Component
+public class ProductAccountCatalogCache {
+
+    private final ProductAccountRepository repository;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Encoded encoded;
+
+    public ProductAccountCatalogCache(ProductAccountRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    public Encoded get() {
+        Encoded current = this.encoded;
+        if (current != null) {
+            return current;
+        }
+        this.lock.lock();
+        try {
+            current = this.encoded;
+            if (current == null) {
+                current = this.encode();
+                this.encoded = current;
+            }
+            return current;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        this.lock.lock();
+        try {
+            log.debug("Invalidating encoded product account catalog");
+            this.encoded = null;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private Encoded encode() {
+        List<ProductAccountRQRS> productAccounts = this.repository.findViewsByState("ACT");
+        try {
+            byte[] json = this.objectMapper.writeValueAsBytes(productAccounts);
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(json);
+            }
+            byte[] compressed = buffer.toByteArray();
+            log.info("Encoded {} active product accounts, {} bytes, {} bytes gzip", productAccounts.size(),
+                    json.length, compressed.length);
+            return new Encoded(json, compressed, productAccounts.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record Encoded(byte[] json, byte[] gzip, int size) {
+    }
+}
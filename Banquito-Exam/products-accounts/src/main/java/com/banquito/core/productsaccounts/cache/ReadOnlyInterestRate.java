@@ -0,0 +1,77 @@
+package com.banquito.core.productsaccounts.cache;
+
+import java.util.Date;
+
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+import com.banquito.core.productsaccounts.model.InterestRate;
+
+/**
+ * Interest rate held by the in-memory rate caches. Setters fail and dates are
+ * handed out as copies, so one reader cannot change the rate another reader
+ * gets. Never passed to the repository; writes go through the entities.
+ */
+final class ReadOnlyInterestRate extends InterestRate {
+
+    ReadOnlyInterestRate(InterestRate rate) {
+        super.setId(rate.getId());
+        super.setName(rate.getName());
+        super.setInterestRate(rate.getInterestRate());
+        super.setState(rate.getState());
+        super.setStart(copy(rate.getStart()));
+        super.setEnd(copy(rate.getEnd()));
+        super.setVersion(rate.getVersion());
+    }
+
+    @Override
+    public Date getStart() {
+        return copy(super.getStart());
+    }
+
+    @Override
+    public Date getEnd() {
+        return copy(super.getEnd());
+    }
+
+    @Override
+    public void setId(Integer id) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setName(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setInterestRate(FixedDecimal interestRate) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setState(String state) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setStart(Date start) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setEnd(Date end) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setVersion(Long version) {
+        throw readOnly();
+    }
+
+    private static Date copy(Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Cached interest rates are read-only");
+    }
+}
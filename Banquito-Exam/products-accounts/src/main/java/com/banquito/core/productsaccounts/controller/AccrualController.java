@@ -0,0 +1,47 @@
+package com.banquito.core.productsaccounts.controller;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.banquito.core.productsaccounts.exception.CRUDException;
+import com.banquito.core.productsaccounts.model.AccrualReport;
+import com.banquito.core.productsaccounts.service.AccrualService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/accruals")
+public class AccrualController {
+
+    private final AccrualService service;
+
+    public AccrualController(AccrualService service) {
+        this.service = service;
+    }
+
+    @PostMapping
+    public ResponseEntity<AccrualReport> accrue(@RequestParam(name = "rate") String rate,
+            @RequestParam(name = "date") String date) {
+        log.info("Going to accrue interest with rate: {} for: {}", rate, date);
+        LocalDate day;
+        try {
+            day = LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            log.error("Invalid accrual date requested: {}", date);
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(this.service.accrue(rate, day));
+        } catch (CRUDException e) {
+            log.error("Error at accrue interest: {}", e.getMessage(), e);
+            return ResponseEntity.status(e.getErrorCode()).build();
+        }
+    }
+}
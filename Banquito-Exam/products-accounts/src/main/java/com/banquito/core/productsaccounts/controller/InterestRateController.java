@@ -1,7 +1,13 @@
 package com.banquito.core.productsaccounts.controller;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,13 +15,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.banquito.core.productsaccounts.controller.dto.InterestRateRQRS;
+import com.banquito.core.productsaccounts.controller.mapper.CursorMapper;
+import com.banquito.core.productsaccounts.controller.mapper.FieldsMapper;
 import com.banquito.core.productsaccounts.controller.mapper.InterestRateMapper;
 import com.banquito.core.productsaccounts.exception.CRUDException;
 import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.model.InterestRateImportResult;
 import com.banquito.core.productsaccounts.service.InterestRateService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +36,10 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/api/v1/interestrates")
 public class InterestRateController {
     
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BULK_SIZE = 10000;
+
     private final InterestRateService service;
 
     public InterestRateController(InterestRateService service) {
@@ -32,17 +47,87 @@ public class InterestRateController {
     }
 
     @GetMapping
-    public ResponseEntity<List<InterestRateRQRS>> obtainAll() {
+    public ResponseEntity<List<InterestRateRQRS>> obtainAll(
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "after", required = false) String after) {
         log.info("Going to return all active interest rates");
-        List<InterestRate> interestRates = this.service.listAllActives();
-        log.info("Returning {} active interest rates", interestRates.size());
-        return ResponseEntity.ok(InterestRateMapper.mapToList(interestRates)); 
+        Set<String> projection;
+        try {
+            projection = FieldsMapper.parse(fields, InterestRateMapper.FIELDS);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields requested: {}", fields);
+            return ResponseEntity.badRequest().build();
+        }
+        if (limit == null && after == null) {
+            List<InterestRate> interestRates = this.service.listAllActives(projection);
+            log.info("Returning {} active interest rates", interestRates.size());
+            return ResponseEntity.ok(InterestRateMapper.mapToList(interestRates));
+        }
+        Integer afterId;
+        try {
+            String decoded = CursorMapper.decode(after);
+            afterId = decoded == null ? null : Integer.valueOf(decoded);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid cursor received: {}", after);
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = limit == null ? MAX_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<InterestRate> interestRates = this.service.listActivesPage(afterId, pageSize + 1, projection);
+        String next = null;
+        if (interestRates.size() > pageSize) {
+            interestRates = interestRates.subList(0, pageSize);
+            next = CursorMapper.encode(String.valueOf(interestRates.get(pageSize - 1).getId()));
+        }
+        List<InterestRateRQRS> page = InterestRateMapper.mapToList(interestRates);
+        if (projection != null && !projection.contains("id")) {
+            page.forEach(interestRate -> interestRate.setId(null));
+        }
+        if (next != null) {
+            log.info("Returning page of {} active interest rates, next cursor: {}", pageSize, next);
+            return ResponseEntity.ok().header(NEXT_CURSOR_HEADER, next).body(page);
+        }
+        log.info("Returning last page of {} active interest rates", interestRates.size());
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/effective")
+    public ResponseEntity<InterestRateRQRS> obtainEffective(@RequestParam(name = "name") String name,
+            @RequestParam(name = "date") String date) {
+        log.info("Going to find interest rate: {} effective on: {}", name, date);
+        LocalDate day;
+        try {
+            day = LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            log.error("Invalid effective date requested: {}", date);
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            InterestRate interestRate = this.service.obtainEffective(name, day);
+            return ResponseEntity.ok(InterestRateMapper.mapToInterestRateRQRS(interestRate));
+        } catch (CRUDException e) {
+            log.error("Error at find effective interest rate: {}", e.getMessage());
+            return ResponseEntity.status(e.getErrorCode()).build();
+        }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<InterestRateRQRS> obtainByCode(@PathVariable(name = "id") String id) {
+    public ResponseEntity<InterestRateRQRS> obtainByCode(@PathVariable(name = "id") String id,
+            @RequestParam(name = "fields", required = false) String fields) {
         log.info("Going to find interest rate by id: {}", id);
-        InterestRate interestRate = this.service.obtainById(Integer.parseInt(id));
+        Set<String> projection;
+        try {
+            projection = FieldsMapper.parse(fields, InterestRateMapper.FIELDS);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields requested: {}", fields);
+            return ResponseEntity.badRequest().build();
+        }
+        if (projection == null) {
+            InterestRateRQRS interestRate = this.service.obtainViewById(Integer.parseInt(id));
+            return ResponseEntity.ok().eTag(InterestRateMapper.mapToETag(interestRate.getVersion()))
+                    .body(interestRate);
+        }
+        InterestRate interestRate = this.service.obtainById(Integer.parseInt(id), projection);
         if (interestRate!=null) {
             return ResponseEntity.ok(InterestRateMapper.mapToInterestRateRQRS(interestRate));
         } else {
@@ -62,11 +147,43 @@ public class InterestRateController {
         }
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<InterestRateImportResult>> bulkCreate(
+            @RequestBody List<InterestRateRQRS> interestrates) {
+        log.info("Going to create {} interest rates in bulk", interestrates.size());
+        if (interestrates.isEmpty() || interestrates.size() > MAX_BULK_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<InterestRate> interestRates = new ArrayList<>(interestrates.size());
+        for (InterestRateRQRS interestrate : interestrates) {
+            interestRates.add(InterestRateMapper.mapToInterestRate(interestrate));
+        }
+        try {
+            List<InterestRateImportResult> results = this.service.bulkCreate(interestRates);
+            boolean created = results.stream()
+                    .allMatch(result -> result.getStatus() == InterestRateImportResult.Status.CREATED);
+            return created ? ResponseEntity.ok(results) : ResponseEntity.badRequest().body(results);
+        } catch (CRUDException e) {
+            log.error("Error at bulk create interest rates: {}", e.getMessage(), e);
+            return ResponseEntity.status(e.getErrorCode()).build();
+        }
+    }
+
     @PutMapping("/{id}")
-    public  ResponseEntity<InterestRateRQRS> update(@PathVariable(name="id") String id, @RequestBody InterestRateRQRS interestrate) {
+    public  ResponseEntity<InterestRateRQRS> update(@PathVariable(name="id") String id, @RequestBody InterestRateRQRS interestrate,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            this.service.update(Integer.parseInt(id), InterestRateMapper.mapToInterestRate(interestrate));
-            return ResponseEntity.ok(InterestRateMapper.mapToInterestRateRQRS(this.service.obtainById(Integer.parseInt(id))));
+            Long expectedVersion;
+            try {
+                expectedVersion = InterestRateMapper.mapFromETag(ifMatch);
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid If-Match header received: {}", ifMatch);
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            InterestRate updated = this.service.update(Integer.parseInt(id),
+                    InterestRateMapper.mapToInterestRate(interestrate), expectedVersion);
+            return ResponseEntity.ok().eTag(InterestRateMapper.mapToETag(updated))
+                    .body(InterestRateMapper.mapToInterestRateRQRS(updated));
         } catch (CRUDException e){
             log.error("Error at update interest rate: {}", e.getMessage(), e);
             return ResponseEntity.status(e.getErrorCode()).build();
@@ -74,9 +191,17 @@ public class InterestRateController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> delete(@PathVariable(name="id") String id) {
+    public ResponseEntity<?> delete(@PathVariable(name="id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            this.service.inactivate(Integer.parseInt(id));
+            Long expectedVersion;
+            try {
+                expectedVersion = InterestRateMapper.mapFromETag(ifMatch);
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid If-Match header received: {}", ifMatch);
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            this.service.inactivate(Integer.parseInt(id), expectedVersion);
             return ResponseEntity.ok().build();
         } catch (CRUDException e){
             log.error("Error at delete interest rate: {}", e.getMessage(), e);
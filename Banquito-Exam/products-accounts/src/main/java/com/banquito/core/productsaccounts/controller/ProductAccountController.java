@@ -1,16 +1,25 @@
 package com.banquito.core.productsaccounts.controller;
 
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.banquito.core.productsaccounts.cache.ProductAccountCatalogCache;
 import com.banquito.core.productsaccounts.controller.dto.ProductAccountRQRS;
+import com.banquito.core.productsaccounts.controller.mapper.CursorMapper;
+import com.banquito.core.productsaccounts.controller.mapper.EncodingMapper;
+import com.banquito.core.productsaccounts.controller.mapper.FieldsMapper;
 import com.banquito.core.productsaccounts.controller.mapper.ProductAccountMapper;
 import com.banquito.core.productsaccounts.exception.CRUDException;
 import com.banquito.core.productsaccounts.model.ProductAccount;
@@ -23,6 +32,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/api/v1/productsaccounts")
 public class ProductAccountController {
     
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final ProductAccountService service;
 
     public ProductAccountController(ProductAccountService service) {
@@ -30,17 +42,80 @@ public class ProductAccountController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductAccountRQRS>> obtainAll() {
+    public ResponseEntity<?> obtainAll(
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info("Going to return all active products accounts");
-        List<ProductAccount> productAccounts = this.service.listAllActives();
-        log.info("Returning {} active products accounts", productAccounts.size());
-        return ResponseEntity.ok(ProductAccountMapper.mapToList(productAccounts)); 
+        if (fields == null && limit == null && after == null) {
+            ProductAccountCatalogCache.Encoded catalog = this.service.listAllActivesEncoded();
+            log.info("Returning {} active products accounts from encoded catalog", catalog.size());
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (EncodingMapper.acceptsGzip(acceptEncoding)) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(catalog.gzip());
+            }
+            return response.body(catalog.json());
+        }
+        Set<String> projection;
+        try {
+            projection = FieldsMapper.parse(fields, ProductAccountMapper.FIELDS);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields requested: {}", fields);
+            return ResponseEntity.badRequest().build();
+        }
+        if (limit == null && after == null) {
+            List<ProductAccount> productAccounts = this.service.listAllActives(projection);
+            log.info("Returning {} active products accounts", productAccounts.size());
+            return ResponseEntity.ok(ProductAccountMapper.mapToList(productAccounts));
+        }
+        String afterId;
+        try {
+            afterId = CursorMapper.decode(after);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid cursor received: {}", after);
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = limit == null ? MAX_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<ProductAccountRQRS> page;
+        if (projection == null) {
+            page = this.service.listActiveViewsPage(afterId, pageSize + 1);
+        } else {
+            page = ProductAccountMapper.mapToList(this.service.listActivesPage(afterId, pageSize + 1, projection));
+        }
+        String next = null;
+        if (page.size() > pageSize) {
+            page = page.subList(0, pageSize);
+            next = CursorMapper.encode(page.get(pageSize - 1).getId());
+        }
+        if (projection != null && !projection.contains("id")) {
+            page.forEach(productAccount -> productAccount.setId(null));
+        }
+        if (next != null) {
+            log.info("Returning page of {} active products accounts, next cursor: {}", pageSize, next);
+            return ResponseEntity.ok().header(NEXT_CURSOR_HEADER, next).body(page);
+        }
+        log.info("Returning last page of {} active products accounts", page.size());
+        return ResponseEntity.ok(page);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProductAccountRQRS> obtainByCode(@PathVariable(name = "id") String id) {
+    public ResponseEntity<ProductAccountRQRS> obtainByCode(@PathVariable(name = "id") String id,
+            @RequestParam(name = "fields", required = false) String fields) {
         log.info("Going to find product account by id: {}", id);
-        ProductAccount productAccount = this.service.obtainById(id);
+        Set<String> projection;
+        try {
+            projection = FieldsMapper.parse(fields, ProductAccountMapper.FIELDS);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields requested: {}", fields);
+            return ResponseEntity.badRequest().build();
+        }
+        if (projection == null) {
+            return ResponseEntity.ok(this.service.obtainViewById(id));
+        }
+        ProductAccount productAccount = this.service.obtainById(id, projection);
         if (productAccount!=null) {
             return ResponseEntity.ok(ProductAccountMapper.mapToProductAccountRQRS(productAccount));
         } else {
@@ -1,19 +1,27 @@
 package com.banquito.core.productsaccounts.controller.dto;
 
-import java.math.BigDecimal;
 import java.util.Date;
 
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class InterestRateRQRS {
     
     private Integer id;
     private String name;
-    private BigDecimal interestRate;
+    private FixedDecimal interestRate;
     private String state;
     private Date start;
     private Date end;
+    private Long version;
 }
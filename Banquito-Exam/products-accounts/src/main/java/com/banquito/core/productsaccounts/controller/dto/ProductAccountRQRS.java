@@ -1,18 +1,24 @@
 package com.banquito.core.productsaccounts.controller.dto;
 
-import java.math.BigDecimal;
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ProductAccountRQRS {
     
     private String id;
     private String name;
     private String description;
-    private BigDecimal minimunBalance;
+    private FixedDecimal minimunBalance;
     private String payInterest;
     private String acceptsChecks;
     private String state;
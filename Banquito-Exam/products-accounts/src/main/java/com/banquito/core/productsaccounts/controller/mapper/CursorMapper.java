@@ -0,0 +1,21 @@
+package com.banquito.core.productsaccounts.controller.mapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the last id of a page as an opaque cursor token, and back.
+ */
+public class CursorMapper {
+
+    public static String encode(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,43 @@
+package com.banquito.core.productsaccounts.controller.mapper;
+
+/**
+ * Reads an Accept-Encoding header, honouring q-values: a coding listed with
+ * q=0 is refused, and the wildcard only applies to codings not named.
+ */
+public class EncodingMapper {
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                gzip = quality(parts);
+            } else if ("*".equals(coding)) {
+                wildcard = quality(parts);
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.startsWith("q=") || parameter.startsWith("Q="))) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -2,11 +2,14 @@ package com.banquito.core.productsaccounts.controller.mapper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import com.banquito.core.productsaccounts.controller.dto.InterestRateRQRS;
 import com.banquito.core.productsaccounts.model.InterestRate;
 
 public class InterestRateMapper {
+
+    public static final Set<String> FIELDS = Set.of("id", "name", "interestRate", "state", "start", "end", "version");
     
     public static InterestRateRQRS mapToInterestRateRQRS(InterestRate interestRate) {
         return InterestRateRQRS.builder()
@@ -15,7 +18,34 @@ public class InterestRateMapper {
             .end(interestRate.getEnd())
             .start(interestRate.getStart())
             .state(interestRate.getState())
-            .name(interestRate.getName()).build();
+            .name(interestRate.getName())
+            .version(interestRate.getVersion()).build();
+    }
+
+    public static String mapToETag(InterestRate interestRate) {
+        return mapToETag(interestRate.getVersion());
+    }
+
+    public static String mapToETag(Long version) {
+        return "\"" + (version == null ? 0L : version) + "\"";
+    }
+
+    /**
+     * Reads the version out of an If-Match entity tag. If-Match uses the
+     * strong comparison, so a weak tag never matches.
+     *
+     * @return the version, or null when any version is accepted
+     * @throws IllegalArgumentException when the tag is weak or not a version
+     */
+    public static Long mapFromETag(String etag) {
+        if (etag == null || etag.isBlank() || "*".equals(etag.trim())) {
+            return null;
+        }
+        String value = etag.trim();
+        if (value.startsWith("W/")) {
+            throw new IllegalArgumentException("Weak entity tag: " + value);
+        }
+        return Long.valueOf(value.replace("\"", ""));
     }
 
     public static List<InterestRateRQRS> mapToList(List<InterestRate> interestRatees) {
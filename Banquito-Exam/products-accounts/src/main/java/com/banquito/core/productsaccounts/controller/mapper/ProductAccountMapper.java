@@ -2,11 +2,15 @@ package com.banquito.core.productsaccounts.controller.mapper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import com.banquito.core.productsaccounts.controller.dto.ProductAccountRQRS;
 import com.banquito.core.productsaccounts.model.ProductAccount;
 
 public class ProductAccountMapper {
+
+    public static final Set<String> FIELDS = Set.of("id", "name", "description", "minimunBalance", "payInterest",
+            "acceptsChecks", "state");
     
     public static ProductAccountRQRS mapToProductAccountRQRS(ProductAccount productAccount) {
         return ProductAccountRQRS.builder()
@@ -0,0 +1,24 @@
+package com.banquito.core.productsaccounts.model;
+
+import java.time.LocalDate;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AccrualReport {
+
+    private String rateName;
+    private LocalDate date;
+    private FixedDecimal interestRate;
+    private int chunks;
+    private int resumedChunks;
+    private long records;
+    private long accrued;
+    private long ineligible;
+    private long invalid;
+    private FixedDecimal totalAccrual;
+    private long elapsedMillis;
+    private long recordsPerSecond;
+}
@@ -0,0 +1,304 @@
+package com.banquito.core.productsaccounts.model;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.hibernate.annotations.Immutable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Immutable decimal backed by a long and a scale, used for amounts and rates
+ * instead of BigDecimal. Arithmetic is exact and throws ArithmeticException on
+ * overflow; every operation that can lose digits takes an explicit rounding
+ * mode. Two values are equal when they are numerically equal, whatever their
+ * scale. It is written to JSON as a plain number. Marked {@link Immutable} so
+ * Hibernate keeps the same instance as dirty-check snapshot and second-level
+ * cache entry instead of deep-copying it through serialization.
+ */
+@Immutable
+@JsonSerialize(using = FixedDecimal.Serializer.class)
+@JsonDeserialize(using = FixedDecimal.Deserializer.class)
+public final class FixedDecimal implements Comparable<FixedDecimal>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int MAX_SCALE = 18;
+
+    public static final FixedDecimal ZERO = new FixedDecimal(0, 0);
+
+    private static final long[] POWERS = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS[0] = 1;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS[i] = POWERS[i - 1] * 10;
+        }
+    }
+
+    private final long unscaled;
+    private final int scale;
+
+    private FixedDecimal(long unscaled, int scale) {
+        this.unscaled = unscaled;
+        this.scale = scale;
+    }
+
+    public static FixedDecimal ofUnscaled(long unscaled, int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new ArithmeticException("Scale out of range: " + scale);
+        }
+        return new FixedDecimal(unscaled, scale);
+    }
+
+    public static FixedDecimal of(BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        BigDecimal normalized = value.scale() < 0 ? value.setScale(0) : value;
+        return ofUnscaled(normalized.unscaledValue().longValueExact(), normalized.scale());
+    }
+
+    /**
+     * Parses a plain decimal such as {@code -1234.56}, keeping the number of
+     * decimals as the scale. Exponent notation goes through BigDecimal.
+     */
+    public static FixedDecimal of(String text) {
+        int length = text.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            index++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        try {
+            for (; index < length; index++) {
+                char c = text.charAt(index);
+                if (c >= '0' && c <= '9') {
+                    unscaled = Math.addExact(Math.multiplyExact(unscaled, 10), c - '0');
+                    digits++;
+                    if (scale >= 0) {
+                        scale++;
+                    }
+                } else if (c == '.' && scale < 0) {
+                    scale = 0;
+                } else {
+                    return of(new BigDecimal(text));
+                }
+            }
+        } catch (ArithmeticException e) {
+            return of(new BigDecimal(text));
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Invalid decimal: " + text);
+        }
+        return ofUnscaled(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    public long unscaledValue() {
+        return this.unscaled;
+    }
+
+    public int scale() {
+        return this.scale;
+    }
+
+    public int signum() {
+        return Long.signum(this.unscaled);
+    }
+
+    public FixedDecimal setScale(int newScale, RoundingMode mode) {
+        if (newScale < 0 || newScale > MAX_SCALE) {
+            throw new ArithmeticException("Scale out of range: " + newScale);
+        }
+        if (newScale == this.scale) {
+            return this;
+        }
+        if (newScale > this.scale) {
+            return new FixedDecimal(Math.multiplyExact(this.unscaled, POWERS[newScale - this.scale]), newScale);
+        }
+        return new FixedDecimal(divide(this.unscaled, POWERS[this.scale - newScale], mode), newScale);
+    }
+
+    public FixedDecimal add(FixedDecimal other) {
+        int common = Math.max(this.scale, other.scale);
+        return new FixedDecimal(Math.addExact(this.align(common), other.align(common)), common);
+    }
+
+    public FixedDecimal subtract(FixedDecimal other) {
+        int common = Math.max(this.scale, other.scale);
+        return new FixedDecimal(Math.subtractExact(this.align(common), other.align(common)), common);
+    }
+
+    public FixedDecimal negate() {
+        return new FixedDecimal(Math.negateExact(this.unscaled), this.scale);
+    }
+
+    public FixedDecimal multiply(FixedDecimal other, int resultScale, RoundingMode mode) {
+        int productScale = this.scale + other.scale;
+        try {
+            long product = Math.multiplyExact(this.unscaled, other.unscaled);
+            if (productScale <= MAX_SCALE) {
+                return new FixedDecimal(product, productScale).setScale(resultScale, mode);
+            }
+        } catch (ArithmeticException e) {
+            // falls back to BigDecimal below
+        }
+        return of(this.toBigDecimal().multiply(other.toBigDecimal()).setScale(resultScale, mode));
+    }
+
+    public FixedDecimal divide(long divisor, RoundingMode mode) {
+        return new FixedDecimal(divide(this.unscaled, divisor, mode), this.scale);
+    }
+
+    /**
+     * Integer division of two longs rounded with the given mode, the building
+     * block of every rescale.
+     */
+    public static long divide(long dividend, long divisor, RoundingMode mode) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        int sign = (dividend < 0) == (divisor < 0) ? 1 : -1;
+        long absRemainder = Math.abs(remainder);
+        long absDivisor = Math.abs(divisor);
+        int half = Long.compare(absRemainder, absDivisor - absRemainder);
+        boolean increment;
+        switch (mode) {
+            case UP:
+                increment = true;
+                break;
+            case DOWN:
+                increment = false;
+                break;
+            case CEILING:
+                increment = sign > 0;
+                break;
+            case FLOOR:
+                increment = sign < 0;
+                break;
+            case HALF_UP:
+                increment = half >= 0;
+                break;
+            case HALF_DOWN:
+                increment = half > 0;
+                break;
+            case HALF_EVEN:
+                increment = half > 0 || (half == 0 && (quotient & 1) != 0);
+                break;
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+        return increment ? quotient + sign : quotient;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(this.unscaled, this.scale);
+    }
+
+    private long align(int targetScale) {
+        return targetScale == this.scale ? this.unscaled
+                : Math.multiplyExact(this.unscaled, POWERS[targetScale - this.scale]);
+    }
+
+    @Override
+    public int compareTo(FixedDecimal other) {
+        if (this.scale == other.scale) {
+            return Long.compare(this.unscaled, other.unscaled);
+        }
+        int common = Math.max(this.scale, other.scale);
+        try {
+            return Long.compare(this.align(common), other.align(common));
+        } catch (ArithmeticException e) {
+            return this.toBigDecimal().compareTo(other.toBigDecimal());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof FixedDecimal)) {
+            return false;
+        }
+        return this.compareTo((FixedDecimal) other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        long value = this.unscaled;
+        int digits = this.scale;
+        while (digits > 0 && value % 10 == 0) {
+            value /= 10;
+            digits--;
+        }
+        return 31 * Long.hashCode(value) + digits;
+    }
+
+    @Override
+    public String toString() {
+        if (this.scale == 0) {
+            return Long.toString(this.unscaled);
+        }
+        StringBuilder builder = new StringBuilder(24);
+        long absolute = Math.abs(this.unscaled);
+        String digits = absolute == Long.MIN_VALUE ? "9223372036854775808" : Long.toString(absolute);
+        if (this.unscaled < 0) {
+            builder.append('-');
+        }
+        int integerDigits = digits.length() - this.scale;
+        if (integerDigits > 0) {
+            builder.append(digits, 0, integerDigits).append('.').append(digits, integerDigits, digits.length());
+        } else {
+            builder.append("0.");
+            for (int i = integerDigits; i < 0; i++) {
+                builder.append('0');
+            }
+            builder.append(digits);
+        }
+        return builder.toString();
+    }
+
+    public static class Serializer extends JsonSerializer<FixedDecimal> {
+
+        @Override
+        public void serialize(FixedDecimal value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeNumber(value.toString());
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<FixedDecimal> {
+
+        @Override
+        public FixedDecimal deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            String text = parser.getText().trim();
+            if (text.isEmpty()) {
+                return null;
+            }
+            try {
+                return FixedDecimal.of(text);
+            } catch (NumberFormatException | ArithmeticException e) {
+                return (FixedDecimal) context.handleWeirdStringValue(FixedDecimal.class, text, e.getMessage());
+            }
+        }
+    }
+}
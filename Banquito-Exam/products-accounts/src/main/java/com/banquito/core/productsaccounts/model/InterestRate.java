@@ -1,33 +1,45 @@
 package com.banquito.core.productsaccounts.model;
 
-import java.math.BigDecimal;
 import java.util.Date;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.banquito.core.productsaccounts.model.converter.RateConverter;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "INTEREST_RATE")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "interestRate")
 @Data
 @NoArgsConstructor
 public class InterestRate {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "INTEREST_RATE_SEQ")
+    @SequenceGenerator(name = "INTEREST_RATE_SEQ", sequenceName = "INTEREST_RATE_SEQ", allocationSize = 50)
     @Column(name = "ID_INTEREST_RATE", nullable = false)
     private Integer id;
     @Column(name = "NAME", length = 50, nullable = false)
     private String name;
+    @Convert(converter = RateConverter.class)
     @Column(name = "INTEREST_RATE", precision = 4,scale = 4, nullable = false)
-    private BigDecimal interestRate;
+    private FixedDecimal interestRate;
     @Column(name = "STATE", length = 3, nullable = false)
     private String state;
     @Temporal(TemporalType.DATE)
@@ -36,5 +48,8 @@ public class InterestRate {
     @Temporal(TemporalType.DATE)
     @Column(name = "END_DATE", nullable = true)
     private Date end;
+    @Version
+    @Column(name = "VERSION", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
 
 }
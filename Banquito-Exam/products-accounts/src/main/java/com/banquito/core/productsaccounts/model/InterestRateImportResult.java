@@ -0,0 +1,20 @@
+package com.banquito.core.productsaccounts.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestRateImportResult {
+
+    public enum Status {
+        CREATED, INVALID, REJECTED
+    }
+
+    private int index;
+    private Integer id;
+    private Status status;
+    private String message;
+}
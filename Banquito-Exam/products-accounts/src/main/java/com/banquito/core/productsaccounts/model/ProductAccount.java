@@ -1,9 +1,15 @@
 package com.banquito.core.productsaccounts.model;
 
-import java.math.BigDecimal;
 import java.util.Date;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.banquito.core.productsaccounts.model.converter.MoneyConverter;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -14,6 +20,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "PRODUCT_ACCOUNT")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "productAccount")
 @Data
 @NoArgsConstructor
 public class ProductAccount {
@@ -25,8 +33,9 @@ public class ProductAccount {
     private String name;
     @Column(name = "DESCRIPTION", length = 500, nullable = false)
     private String description;
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "MINIMUN_BALANCE", precision = 4, scale=2, nullable = false)
-    private BigDecimal minimunBalance;
+    private FixedDecimal minimunBalance;
     @Column(name = "PAY_INTEREST", length = 1, nullable = false)
     private String payInterest;
     @Column(name = "ACCEPTS_CHECKS", length = 1, nullable = false)
@@ -0,0 +1,32 @@
+package com.banquito.core.productsaccounts.model.converter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Maps a {@link FixedDecimal} attribute to a NUMERIC column of a fixed scale.
+ * Values are rounded half-even to the column scale when written and come back
+ * with that scale when read.
+ */
+public abstract class FixedDecimalConverter implements AttributeConverter<FixedDecimal, BigDecimal> {
+
+    private final int scale;
+
+    protected FixedDecimalConverter(int scale) {
+        this.scale = scale;
+    }
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(FixedDecimal attribute) {
+        return attribute == null ? null : attribute.setScale(this.scale, RoundingMode.HALF_EVEN).toBigDecimal();
+    }
+
+    @Override
+    public FixedDecimal convertToEntityAttribute(BigDecimal column) {
+        return column == null ? null : FixedDecimal.of(column).setScale(this.scale, RoundingMode.HALF_EVEN);
+    }
+}
@@ -0,0 +1,13 @@
+package com.banquito.core.productsaccounts.model.converter;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class MoneyConverter extends FixedDecimalConverter {
+
+    public static final int SCALE = 2;
+
+    public MoneyConverter() {
+        super(SCALE);
+    }
+}
@@ -0,0 +1,13 @@
+package com.banquito.core.productsaccounts.model.converter;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class RateConverter extends FixedDecimalConverter {
+
+    public static final int SCALE = 4;
+
+    public RateConverter() {
+        super(SCALE);
+    }
+}
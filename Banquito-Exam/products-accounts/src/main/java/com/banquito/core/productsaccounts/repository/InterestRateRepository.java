@@ -6,7 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.banquito.core.productsaccounts.model.InterestRate;
 
-public interface InterestRateRepository extends JpaRepository<InterestRate, Integer>{
+public interface InterestRateRepository extends JpaRepository<InterestRate, Integer>, InterestRateRepositoryCustom {
     
     List<InterestRate> findByState(String state);
 }
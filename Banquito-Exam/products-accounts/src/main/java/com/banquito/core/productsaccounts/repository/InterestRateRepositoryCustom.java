@@ -0,0 +1,21 @@
+package com.banquito.core.productsaccounts.repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+import com.banquito.core.productsaccounts.model.InterestRate;
+
+public interface InterestRateRepositoryCustom {
+
+    List<InterestRate> findByStateProjected(String state, Set<String> fields);
+
+    List<InterestRate> findByIdProjected(Integer id, Set<String> fields);
+
+    void insertAll(List<InterestRate> interestRates);
+
+    InterestRate updateDetails(Integer id, String name, FixedDecimal interestRate, Long expectedVersion);
+
+    InterestRate inactivate(Integer id, Date end, Long expectedVersion);
+}
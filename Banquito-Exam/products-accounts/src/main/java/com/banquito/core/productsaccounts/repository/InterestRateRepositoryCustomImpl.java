@@ -0,0 +1,115 @@
+package com.banquito.core.productsaccounts.repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.model.converter.RateConverter;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TemporalType;
+
+public class InterestRateRepositoryCustomImpl implements InterestRateRepositoryCustom {
+
+    private static final RateConverter RATE_CONVERTER = new RateConverter();
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public InterestRateRepositoryCustomImpl(EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public List<InterestRate> findByStateProjected(String state, Set<String> fields) {
+        return JpaProjections.findBy(this.entityManager, InterestRate.class, "state", state, fields);
+    }
+
+    @Override
+    public List<InterestRate> findByIdProjected(Integer id, Set<String> fields) {
+        return JpaProjections.findBy(this.entityManager, InterestRate.class, "id", id, fields);
+    }
+
+    /**
+     * Persists every rate in one transaction, flushing once per JDBC batch so
+     * the inserts go out as batched statements and the persistence context
+     * stays small. Ids come from the pooled sequence, so they are assigned on
+     * the detached instances without extra round trips.
+     */
+    @Override
+    @Transactional
+    public void insertAll(List<InterestRate> interestRates) {
+        int pending = 0;
+        for (InterestRate interestRate : interestRates) {
+            this.entityManager.persist(interestRate);
+            if (++pending == this.batchSize) {
+                this.entityManager.flush();
+                this.entityManager.clear();
+                pending = 0;
+            }
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    @Override
+    @Transactional
+    public InterestRate updateDetails(Integer id, String name, FixedDecimal interestRate, Long expectedVersion) {
+        Query query = this.entityManager
+                .createNativeQuery(InterestRateStatements.of(InterestRateStatements.UPDATE_DETAILS, expectedVersion),
+                        InterestRate.class)
+                .setParameter("id", id)
+                .setParameter("name", name)
+                .setParameter("interestRate", RATE_CONVERTER.convertToDatabaseColumn(interestRate));
+        return this.single(query, expectedVersion);
+    }
+
+    @Override
+    @Transactional
+    public InterestRate inactivate(Integer id, Date end, Long expectedVersion) {
+        Query query = this.entityManager
+                .createNativeQuery(InterestRateStatements.of(InterestRateStatements.INACTIVATE, expectedVersion),
+                        InterestRate.class)
+                .setParameter("id", id)
+                .setParameter("end", end, TemporalType.DATE);
+        return this.single(query, expectedVersion);
+    }
+
+    private InterestRate single(Query query, Long expectedVersion) {
+        if (expectedVersion != null) {
+            query.setParameter("version", expectedVersion);
+        }
+        List<?> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return null;
+        }
+        InterestRate interestRate = (InterestRate) rows.get(0);
+        this.evictAfterCommit(interestRate.getId());
+        return interestRate;
+    }
+
+    /**
+     * Native updates bypass the second-level cache, so the cached entity is
+     * dropped once the new row is committed.
+     */
+    private void evictAfterCommit(Integer id) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Cache cache = entityManager.getEntityManagerFactory().getCache();
+                cache.evict(InterestRate.class, id);
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.banquito.core.productsaccounts.repository;
+
+/**
+ * Native single-statement writes for interest rates. Each one updates the row
+ * only when the id, and the version if one is given, still match, and returns
+ * the new row in the same round trip.
+ */
+class InterestRateStatements {
+
+    private static final String RETURNING = " returning *";
+
+    static final String UPDATE_DETAILS = "update INTEREST_RATE set NAME = :name, INTEREST_RATE = :interestRate,"
+            + " VERSION = VERSION + 1 where ID_INTEREST_RATE = :id";
+
+    static final String INACTIVATE = "update INTEREST_RATE set STATE = 'INA', END_DATE = :end,"
+            + " VERSION = VERSION + 1 where ID_INTEREST_RATE = :id";
+
+    static String of(String statement, Long expectedVersion) {
+        return expectedVersion == null ? statement + RETURNING
+                : statement + " and VERSION = :version" + RETURNING;
+    }
+}
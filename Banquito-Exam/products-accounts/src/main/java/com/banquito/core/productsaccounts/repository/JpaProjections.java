@@ -0,0 +1,130 @@
+package com.banquito.core.productsaccounts.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Builds column projections for the custom repositories: only the requested
+ * attributes are selected and the rows are copied into detached instances of
+ * the entity class, or built straight into a view class through its
+ * constructor.
+ */
+class JpaProjections {
+
+    private static final String ID = "id";
+
+    static <T> List<T> findBy(EntityManager entityManager, Class<T> entityClass, String attribute, Object value,
+            Set<String> fields) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        query.multiselect(select(root, fields)).where(builder.equal(root.get(attribute), value));
+        return copy(entityManager.createQuery(query).getResultList(), entityClass, fields);
+    }
+
+    /**
+     * Returns up to limit rows with the given state and an id greater than
+     * after, ordered by id. The id is always selected so the caller can build
+     * the next cursor; a null fields selects whole entities.
+     */
+    static <T, K extends Comparable<? super K>> List<T> findPage(EntityManager entityManager, Class<T> entityClass,
+            String state, K after, int limit, Set<String> fields) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        if (fields == null) {
+            CriteriaQuery<T> query = builder.createQuery(entityClass);
+            Root<T> root = query.from(entityClass);
+            query.select(root).where(page(builder, root, state, after)).orderBy(builder.asc(root.get(ID)));
+            return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+        }
+        Set<String> selected = new LinkedHashSet<>(fields);
+        selected.add(ID);
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        query.multiselect(select(root, selected)).where(page(builder, root, state, after))
+                .orderBy(builder.asc(root.get(ID)));
+        return copy(entityManager.createQuery(query).setMaxResults(limit).getResultList(), entityClass, selected);
+    }
+
+    /**
+     * Selects the attributes, in constructor order, into new instances of the
+     * view class. No entity is loaded, so nothing enters the persistence
+     * context and there is nothing to dirty check.
+     */
+    static <T, V> List<V> findViewsBy(EntityManager entityManager, Class<T> entityClass, Class<V> viewClass,
+            List<String> attributes, String attribute, Object value) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<V> query = builder.createQuery(viewClass);
+        Root<T> root = query.from(entityClass);
+        query.select(construct(builder, root, viewClass, attributes))
+                .where(builder.equal(root.get(attribute), value))
+                .orderBy(builder.asc(root.get(ID)));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Keyset page of {@link #findPage} built straight into the view class.
+     */
+    static <T, V, K extends Comparable<? super K>> List<V> findViewPage(EntityManager entityManager,
+            Class<T> entityClass, Class<V> viewClass, List<String> attributes, String state, K after, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<V> query = builder.createQuery(viewClass);
+        Root<T> root = query.from(entityClass);
+        query.select(construct(builder, root, viewClass, attributes)).where(page(builder, root, state, after))
+                .orderBy(builder.asc(root.get(ID)));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private static <V> CompoundSelection<V> construct(CriteriaBuilder builder, Root<?> root, Class<V> viewClass,
+            List<String> attributes) {
+        Selection<?>[] selections = new Selection<?>[attributes.size()];
+        for (int i = 0; i < selections.length; i++) {
+            selections[i] = root.get(attributes.get(i));
+        }
+        return builder.construct(viewClass, selections);
+    }
+
+    private static <T, K extends Comparable<? super K>> Predicate[] page(CriteriaBuilder builder, Root<T> root,
+            String state, K after) {
+        Predicate byState = builder.equal(root.get("state"), state);
+        if (after == null) {
+            return new Predicate[] { byState };
+        }
+        return new Predicate[] { byState, builder.greaterThan(root.<K>get(ID), after) };
+    }
+
+    private static List<Selection<?>> select(Root<?> root, Set<String> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(root.get(field).alias(field));
+        }
+        return selections;
+    }
+
+    private static <T> List<T> copy(List<Tuple> rows, Class<T> entityClass, Set<String> fields) {
+        List<T> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            T instance = BeanUtils.instantiateClass(entityClass);
+            BeanWrapper wrapper = new BeanWrapperImpl(instance);
+            for (String field : fields) {
+                wrapper.setPropertyValue(field, row.get(field));
+            }
+            result.add(instance);
+        }
+        return result;
+    }
+}
@@ -6,7 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.banquito.core.productsaccounts.model.ProductAccount;
 
-public interface ProductAccountRepository extends JpaRepository<ProductAccount, String>{
+public interface ProductAccountRepository extends JpaRepository<ProductAccount, String>, ProductAccountRepositoryCustom {
     
     List<ProductAccount> findByState(String state);
 }
@@ -0,0 +1,20 @@
+package com.banquito.core.productsaccounts.repository;
+
+import java.util.List;
+import java.util.Set;
+
+import com.banquito.core.productsaccounts.controller.dto.ProductAccountRQRS;
+import com.banquito.core.productsaccounts.model.ProductAccount;
+
+public interface ProductAccountRepositoryCustom {
+
+    List<ProductAccount> findByStateProjected(String state, Set<String> fields);
+
+    List<ProductAccount> findByIdProjected(String id, Set<String> fields);
+
+    List<ProductAccount> findByStatePage(String state, String afterId, int limit, Set<String> fields);
+
+    List<ProductAccountRQRS> findViewsByState(String state);
+
+    List<ProductAccountRQRS> findViewsByStatePage(String state, String afterId, int limit);
+}
@@ -0,0 +1,52 @@
+package com.banquito.core.productsaccounts.repository;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.banquito.core.productsaccounts.controller.dto.ProductAccountRQRS;
+import com.banquito.core.productsaccounts.model.ProductAccount;
+
+import jakarta.persistence.EntityManager;
+
+public class ProductAccountRepositoryCustomImpl implements ProductAccountRepositoryCustom {
+
+    private static final List<String> VIEW = List.of("id", "name", "description", "minimunBalance",
+            "payInterest", "acceptsChecks", "state");
+
+    private final EntityManager entityManager;
+
+    public ProductAccountRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<ProductAccount> findByStateProjected(String state, Set<String> fields) {
+        return JpaProjections.findBy(this.entityManager, ProductAccount.class, "state", state, fields);
+    }
+
+    @Override
+    public List<ProductAccount> findByIdProjected(String id, Set<String> fields) {
+        return JpaProjections.findBy(this.entityManager, ProductAccount.class, "id", id, fields);
+    }
+
+    @Override
+    public List<ProductAccount> findByStatePage(String state, String afterId, int limit, Set<String> fields) {
+        return JpaProjections.findPage(this.entityManager, ProductAccount.class, state, afterId, limit, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductAccountRQRS> findViewsByState(String state) {
+        return JpaProjections.findViewsBy(this.entityManager, ProductAccount.class, ProductAccountRQRS.class, VIEW,
+                "state", state);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductAccountRQRS> findViewsByStatePage(String state, String afterId, int limit) {
+        return JpaProjections.findViewPage(this.entityManager, ProductAccount.class, ProductAccountRQRS.class, VIEW,
+                state, afterId, limit);
+    }
+}
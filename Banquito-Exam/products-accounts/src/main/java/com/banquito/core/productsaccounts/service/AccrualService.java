@@ -0,0 +1,210 @@
+package com.banquito.core.productsaccounts.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.banquito.core.productsaccounts.accrual.AccrualChunk;
+import com.banquito.core.productsaccounts.accrual.AccrualCheckpoint;
+import com.banquito.core.productsaccounts.accrual.AccrualMath;
+import com.banquito.core.productsaccounts.cache.InterestRateIntervalIndex;
+import com.banquito.core.productsaccounts.exception.CRUDException;
+import com.banquito.core.productsaccounts.model.AccrualReport;
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.model.ProductAccount;
+import com.banquito.core.productsaccounts.repository.ProductAccountRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Daily interest accrual over balance files. Every {@code .csv} file of the
+ * input directory is a chunk of {@code account,productAccount,balance} lines;
+ * chunks are processed in name order, read in batches of lines that are each
+ * split across a fork-join pool, and written under the same name to a
+ * directory of the output directory keyed by the rate id, rate value and date,
+ * so runs never overwrite each other. Completed chunks are recorded in a
+ * checkpoint file in that directory so a failed run can be started again.
+ */
+@Slf4j
+@Service
+public class AccrualService {
+
+    private static final int DAYS_IN_YEAR = 365;
+    private static final String CHUNK_SUFFIX = ".csv";
+
+    private final ProductAccountRepository productAccountRepository;
+    private final InterestRateIntervalIndex intervals;
+    private final Path inputDir;
+    private final Path outputDir;
+    private final int splitThreshold;
+    private final int batchLines;
+    private final ForkJoinPool pool;
+    private final ReentrantLock running = new ReentrantLock();
+
+    public AccrualService(ProductAccountRepository productAccountRepository, InterestRateIntervalIndex intervals,
+            @Value("${accrual.input-dir}") String inputDir,
+            @Value("${accrual.output-dir}") String outputDir,
+            @Value("${accrual.parallelism:0}") int parallelism,
+            @Value("${accrual.split-threshold:8192}") int splitThreshold,
+            @Value("${accrual.batch-lines:65536}") int batchLines) {
+        this.productAccountRepository = productAccountRepository;
+        this.intervals = intervals;
+        this.inputDir = Paths.get(inputDir);
+        this.outputDir = Paths.get(outputDir);
+        this.splitThreshold = splitThreshold;
+        this.batchLines = batchLines;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Runs one accrual at a time; a call made while another one is running
+     * fails with 409 instead of queueing behind it.
+     */
+    public AccrualReport accrue(String rateName, LocalDate date) {
+        if (!this.running.tryLock()) {
+            log.error("Interest accrual requested for rate: {} on: {} while another one is running", rateName, date);
+            throw new CRUDException(409, "An interest accrual is already running");
+        }
+        try {
+            return this.runAccrual(rateName, date);
+        } finally {
+            this.running.unlock();
+        }
+    }
+
+    private AccrualReport runAccrual(String rateName, LocalDate date) {
+        InterestRate rate = this.intervals.findEffective(rateName, date);
+        if (rate == null) {
+            throw new CRUDException(404, "Interest Rate: {" + rateName + "} is not effective on: {" + date + "}");
+        }
+        log.info("Going to accrue interest with rate: {} ({}) for: {}", rateName, rate.getInterestRate(), date);
+        long rateUnits = AccrualMath.toRateUnits(rate.getInterestRate());
+        AccrualChunk.Context context = new AccrualChunk.Context(this.loadProducts(), rateUnits, DAYS_IN_YEAR,
+                this.splitThreshold);
+        String run = rate.getId() + "-" + rateUnits + "-" + date;
+        long started = System.nanoTime();
+        int chunks = 0;
+        int resumed = 0;
+        try {
+            Path runDir = Files.createDirectories(this.outputDir.resolve("accrual-" + run));
+            AccrualCheckpoint checkpoint = new AccrualCheckpoint(runDir.resolve("accrual.checkpoint"),
+                    "rate " + rateName + " id " + rate.getId() + " units " + rateUnits + " date " + date);
+            Set<String> completed = checkpoint.load();
+            for (Path chunk : this.listChunks()) {
+                String name = chunk.getFileName().toString();
+                if (completed.contains(name)) {
+                    log.debug("Chunk: {} already accrued, skipping", name);
+                    resumed++;
+                    continue;
+                }
+                long records = context.getRecords();
+                long chunkStarted = System.nanoTime();
+                this.accrueChunk(chunk, runDir, context);
+                checkpoint.complete(name);
+                chunks++;
+                long chunkRecords = context.getRecords() - records;
+                log.info("Chunk: {} accrued, {} records, {} records/s", name, chunkRecords,
+                        perSecond(chunkRecords, System.nanoTime() - chunkStarted));
+            }
+        } catch (IOException e) {
+            log.error("Error in interest accrual: {}, for rate: {} on: {}", e.getMessage(), rateName, date);
+            throw new CRUDException(550, "Interest accrual cannot be completed, error:" + e.getMessage(), e);
+        }
+        long elapsed = System.nanoTime() - started;
+        AccrualReport report = AccrualReport.builder()
+                .rateName(rateName)
+                .date(date)
+                .interestRate(rate.getInterestRate())
+                .chunks(chunks)
+                .resumedChunks(resumed)
+                .records(context.getRecords())
+                .accrued(context.getAccrued())
+                .ineligible(context.getIneligible())
+                .invalid(context.getInvalid())
+                .totalAccrual(AccrualMath.toAmount(context.getTotalCents()))
+                .elapsedMillis(elapsed / 1_000_000)
+                .recordsPerSecond(perSecond(context.getRecords(), elapsed))
+                .build();
+        log.info("Interest accrual finished: {}", report);
+        return report;
+    }
+
+    private Map<String, AccrualChunk.Eligibility> loadProducts() {
+        Map<String, AccrualChunk.Eligibility> products = new HashMap<>();
+        for (ProductAccount product : this.productAccountRepository.findAll()) {
+            FixedDecimal minimum = product.getMinimunBalance() == null ? FixedDecimal.ZERO
+                    : product.getMinimunBalance();
+            boolean payInterest = "Y".equals(product.getPayInterest()) && "ACT".equals(product.getState());
+            products.put(product.getId(), new AccrualChunk.Eligibility(payInterest, AccrualMath.toCents(minimum)));
+        }
+        return products;
+    }
+
+    private List<Path> listChunks() throws IOException {
+        try (Stream<Path> files = Files.list(this.inputDir)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(CHUNK_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private void accrueChunk(Path chunk, Path runDir, AccrualChunk.Context context) throws IOException {
+        Path target = runDir.resolve(chunk.getFileName().toString());
+        Path temporary = runDir.resolve(chunk.getFileName() + ".tmp");
+        String[] lines = new String[this.batchLines];
+        String[] output = new String[this.batchLines];
+        try (BufferedReader reader = Files.newBufferedReader(chunk, StandardCharsets.UTF_8);
+                BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            int count;
+            while ((count = readBatch(reader, lines)) > 0) {
+                this.pool.invoke(new AccrualChunk(lines, output, count, context));
+                for (int i = 0; i < count; i++) {
+                    if (output[i] != null) {
+                        writer.write(output[i]);
+                        writer.newLine();
+                        output[i] = null;
+                    }
+                }
+            }
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int readBatch(BufferedReader reader, String[] lines) throws IOException {
+        int count = 0;
+        String line;
+        while (count < lines.length && (line = reader.readLine()) != null) {
+            lines[count++] = line;
+        }
+        return count;
+    }
+
+    private static long perSecond(long records, long nanos) {
+        return nanos <= 0 ? records : records * 1_000_000_000L / nanos;
+    }
+}
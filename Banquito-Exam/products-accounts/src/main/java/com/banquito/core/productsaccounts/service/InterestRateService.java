@@ -1,13 +1,23 @@
 package com.banquito.core.productsaccounts.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 
+import com.banquito.core.productsaccounts.cache.InterestRateIntervalIndex;
+import com.banquito.core.productsaccounts.cache.InterestRateTable;
+import com.banquito.core.productsaccounts.controller.dto.InterestRateRQRS;
+import com.banquito.core.productsaccounts.controller.mapper.InterestRateMapper;
 import com.banquito.core.productsaccounts.exception.CRUDException;
+import com.banquito.core.productsaccounts.model.FixedDecimal;
 import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.model.InterestRateImportResult;
 import com.banquito.core.productsaccounts.repository.InterestRateRepository;
 
 import lombok.extern.slf4j.Slf4j;
@@ -17,20 +27,74 @@ import lombok.extern.slf4j.Slf4j;
 public class InterestRateService {
 
     private final InterestRateRepository repository;
+    private final InterestRateTable table;
+    private final InterestRateIntervalIndex intervals;
 
-    public InterestRateService(InterestRateRepository repository) {
+    public InterestRateService(InterestRateRepository repository, InterestRateTable table,
+            InterestRateIntervalIndex intervals) {
         this.repository = repository;
+        this.table = table;
+        this.intervals = intervals;
     }
 
     public List<InterestRate> listAllActives() {
         log.info("Obtaining all active interest rate records");
-        List<InterestRate> rates = this.repository.findByState("ACT");
+        List<InterestRate> rates = this.table.getActives();
         log.debug("Returning {} interest rates records", rates.size());
         return rates;
     }
 
+    public List<InterestRate> listAllActives(Set<String> fields) {
+        if (fields == null) {
+            return this.listAllActives();
+        }
+        log.info("Obtaining all active interest rate records with fields: {}", fields);
+        List<InterestRate> actives = this.table.getActives();
+        List<InterestRate> rates = new ArrayList<>(actives.size());
+        for (InterestRate rate : actives) {
+            rates.add(InterestRateTable.project(rate, fields));
+        }
+        return rates;
+    }
+
+    public List<InterestRate> listActivesPage(Integer after, int limit, Set<String> fields) {
+        log.info("Obtaining page of {} active interest rate records after: {}", limit, after);
+        List<InterestRate> actives = this.table.getActivesAfter(after);
+        actives = actives.subList(0, Math.min(limit, actives.size()));
+        if (fields == null) {
+            return actives;
+        }
+        Set<String> selected = new LinkedHashSet<>(fields);
+        selected.add("id");
+        List<InterestRate> rates = new ArrayList<>(actives.size());
+        for (InterestRate rate : actives) {
+            rates.add(InterestRateTable.project(rate, selected));
+        }
+        return rates;
+    }
+
+    public InterestRate obtainById(Integer id, Set<String> fields) {
+        if (fields == null) {
+            return this.obtainById(id);
+        }
+        log.info("Looking interest rate by id: {} with fields: {}", id, fields);
+        InterestRate active = this.table.getById(id);
+        if (active != null) {
+            return InterestRateTable.project(active, fields);
+        }
+        List<InterestRate> interestRates = this.repository.findByIdProjected(id, fields);
+        if (interestRates.isEmpty()) {
+            throw new CRUDException(404, "Interest Rate with id: {" + id + "} does not exist");
+        }
+        return interestRates.get(0);
+    }
+
     public InterestRate obtainById(Integer id) {
         log.info("Looking interest rate by id: {}", id);
+        InterestRate active = this.table.getById(id);
+        if (active != null) {
+            return active;
+        }
         Optional<InterestRate> interestRateOpt = this.repository.findById(id);
         if (!interestRateOpt.isPresent()) {
             throw new CRUDException(404, "Interest Rate with id: {" + id + "} does not exist");
@@ -39,10 +103,30 @@ public class InterestRateService {
         }
     }
 
+    /**
+     * Active rates come from the in-memory table; any other rate is loaded
+     * through findById and so served from the interestRate second-level cache
+     * region.
+     */
+    public InterestRateRQRS obtainViewById(Integer id) {
+        return InterestRateMapper.mapToInterestRateRQRS(this.obtainById(id));
+    }
+
+    public InterestRate obtainEffective(String name, LocalDate date) {
+        log.info("Looking interest rate: {} effective on: {}", name, date);
+        InterestRate interestRate = this.intervals.findEffective(name, date);
+        if (interestRate == null) {
+            throw new CRUDException(404, "Interest Rate: {" + name + "} is not effective on: {" + date + "}");
+        }
+        return interestRate;
+    }
+
     public void create(InterestRate interestRate) throws CRUDException {
         try {
             log.info("Creating interest rate with the following info: {}", interestRate);
-            this.repository.save(interestRate);
+            InterestRate saved = this.repository.save(interestRate);
+            this.table.apply(saved != null ? saved : interestRate);
+            this.intervals.apply(saved != null ? saved : interestRate);
             log.debug("Interest rate created with the following info: {}", interestRate);
         } catch (Exception e) {
             log.error("Error in interest rate creation: {}, with data: {}", e.getMessage(), interestRate);
@@ -50,19 +134,91 @@ public class InterestRateService {
         }
     }
 
-    public void update(Integer id, InterestRate interestRate) throws CRUDException {
+    public List<InterestRateImportResult> bulkCreate(List<InterestRate> interestRates) throws CRUDException {
+        log.info("Going to create {} interest rates in bulk", interestRates.size());
+        List<InterestRateImportResult> results = new ArrayList<>(interestRates.size());
+        boolean valid = true;
+        for (int i = 0; i < interestRates.size(); i++) {
+            String error = validate(interestRates.get(i));
+            if (error != null) {
+                valid = false;
+                results.add(new InterestRateImportResult(i, null, InterestRateImportResult.Status.INVALID, error));
+            } else {
+                results.add(new InterestRateImportResult(i, null, InterestRateImportResult.Status.CREATED, null));
+            }
+        }
+        if (!valid) {
+            log.error("Interest rate bulk creation rejected, invalid rows found");
+            for (InterestRateImportResult result : results) {
+                if (result.getStatus() == InterestRateImportResult.Status.CREATED) {
+                    result.setStatus(InterestRateImportResult.Status.REJECTED);
+                }
+            }
+            return results;
+        }
+        try {
+            this.repository.insertAll(interestRates);
+        } catch (Exception e) {
+            log.error("Error in interest rate bulk creation: {}, with {} rows", e.getMessage(), interestRates.size());
+            throw new CRUDException(510, "Interest Rates cannot be created, error:" + e.getMessage(), e);
+        }
+        for (int i = 0; i < interestRates.size(); i++) {
+            results.get(i).setId(interestRates.get(i).getId());
+        }
+        this.table.applyAll(interestRates);
+        this.intervals.applyAll(interestRates);
+        log.debug("Interest rates created in bulk: {}", interestRates.size());
+        return results;
+    }
+
+    private static String validate(InterestRate interestRate) {
+        if (interestRate.getId() != null) {
+            return "id must not be provided";
+        }
+        if (interestRate.getName() == null || interestRate.getName().isBlank()) {
+            return "name is required";
+        }
+        if (interestRate.getName().length() > 50) {
+            return "name must have at most 50 characters";
+        }
+        if (interestRate.getInterestRate() == null) {
+            return "interestRate is required";
+        }
+        if (interestRate.getInterestRate().signum() < 0
+                || interestRate.getInterestRate().compareTo(FixedDecimal.of("1")) >= 0) {
+            return "interestRate must be between 0 and 0.9999";
+        }
+        if (!"ACT".equals(interestRate.getState()) && !"INA".equals(interestRate.getState())) {
+            return "state must be ACT or INA";
+        }
+        if (interestRate.getStart() == null) {
+            return "start is required";
+        }
+        if (interestRate.getEnd() != null && interestRate.getEnd().before(interestRate.getStart())) {
+            return "end must not be before start";
+        }
+        return null;
+    }
+
+    public InterestRate update(Integer id, InterestRate interestRate) throws CRUDException {
+        return this.update(id, interestRate, null);
+    }
+
+    public InterestRate update(Integer id, InterestRate interestRate, Long expectedVersion) throws CRUDException {
         try {
             log.info("Going to update Interest Rate with id: {} ", id);
             log.debug("Going to update Interest Rate with id: {} with the following data {}", id, interestRate);
-            Optional<InterestRate> interestRateOpt = this.repository.findById(id);
-            if (!interestRateOpt.isPresent()) {
-                throw new CRUDException(404, "Interest Rate with id: {" + id + "} does not exist");
+            InterestRate updated = this.repository.updateDetails(id, interestRate.getName(),
+                    interestRate.getInterestRate(), expectedVersion);
+            if (updated == null) {
+                throw this.notMatched(id, expectedVersion);
             }
-            InterestRate interestRateTmp = interestRateOpt.get();
-            interestRateTmp.setName(interestRate.getName());
-            interestRateTmp.setInterestRate(interestRate.getInterestRate());
-            this.repository.save(interestRateTmp);
-            log.debug("Interest Rate with id: {} has been updated with the following info {}", id, interestRateTmp);
+            this.table.apply(updated);
+            this.intervals.apply(updated);
+            log.debug("Interest Rate with id: {} has been updated with the following info {}", id, updated);
+            return updated;
+        } catch (CRUDException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error when try to update Interest Rate: {}, with the following info: {}", e.getMessage(),
                     interestRate);
@@ -71,20 +227,32 @@ public class InterestRateService {
     }
 
     public void inactivate(Integer id) {
+        this.inactivate(id, null);
+    }
+
+    public void inactivate(Integer id, Long expectedVersion) {
         try {
             log.info("Going to inactivate Interest Rate with id: {} ", id);
-            Optional<InterestRate> interestRateOpt = this.repository.findById(id);
-            if (!interestRateOpt.isPresent()) {
-                throw new CRUDException(404, "Interest Rate with id: {" + id + "} does not exist");
+            InterestRate inactivated = this.repository.inactivate(id, new Date(), expectedVersion);
+            if (inactivated == null) {
+                throw this.notMatched(id, expectedVersion);
             }
-            InterestRate interestRateTmp = interestRateOpt.get();
-            interestRateTmp.setState("INA");
-            interestRateTmp.setEnd(new Date());
-            this.repository.save(interestRateTmp);
-            log.debug("Interest Rate with id: {} has been inactivated with the following info {}", id, interestRateTmp);
+            this.table.apply(inactivated);
+            this.intervals.apply(inactivated);
+            log.debug("Interest Rate with id: {} has been inactivated with the following info {}", id, inactivated);
+        } catch (CRUDException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error when try to inactivate Interest Rate: {}, with id: {}", e.getMessage(), id);
             throw new CRUDException(530, "Interest Rate cannot be inactivated, error:" + e.getMessage(), e);
         }
     }
+
+    private CRUDException notMatched(Integer id, Long expectedVersion) {
+        if (expectedVersion != null && this.repository.existsById(id)) {
+            return new CRUDException(412, "Interest Rate with id: {" + id + "} is not at version: {"
+                    + expectedVersion + "}");
+        }
+        return new CRUDException(404, "Interest Rate with id: {" + id + "} does not exist");
+    }
 }
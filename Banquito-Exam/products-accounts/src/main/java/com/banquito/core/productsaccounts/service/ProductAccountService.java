@@ -3,9 +3,13 @@ package com.banquito.core.productsaccounts.service;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 
+import com.banquito.core.productsaccounts.cache.ProductAccountCatalogCache;
+import com.banquito.core.productsaccounts.controller.dto.ProductAccountRQRS;
+import com.banquito.core.productsaccounts.controller.mapper.ProductAccountMapper;
 import com.banquito.core.productsaccounts.exception.CRUDException;
 import com.banquito.core.productsaccounts.model.ProductAccount;
 import com.banquito.core.productsaccounts.repository.ProductAccountRepository;
@@ -17,9 +21,16 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductAccountService {
     
     private final ProductAccountRepository repository;
+    private final ProductAccountCatalogCache catalogCache;
 
-    public ProductAccountService(ProductAccountRepository repository) {
+    public ProductAccountService(ProductAccountRepository repository, ProductAccountCatalogCache catalogCache) {
         this.repository = repository;
+        this.catalogCache = catalogCache;
+    }
+
+    public ProductAccountCatalogCache.Encoded listAllActivesEncoded() {
+        log.info("Obtaining encoded active Products Accounts catalog");
+        return this.catalogCache.get();
     }
 
     public List<ProductAccount> listAllActives() {
@@ -29,6 +40,48 @@ public class ProductAccountService {
         return rates;
     }
 
+    public List<ProductAccount> listAllActives(Set<String> fields) {
+        if (fields == null) {
+            return this.listAllActives();
+        }
+        log.info("Obtaining all active Products Accounts records with fields: {}", fields);
+        return this.repository.findByStateProjected("ACT", fields);
+    }
+
+    public List<ProductAccount> listActivesPage(String after, int limit, Set<String> fields) {
+        log.info("Obtaining page of {} active Products Accounts after: {}", limit, after);
+        List<ProductAccount> productAccounts = this.repository.findByStatePage("ACT", after, limit, fields);
+        log.debug("Returning {} Products Accounts records", productAccounts.size());
+        return productAccounts;
+    }
+
+    public List<ProductAccountRQRS> listActiveViewsPage(String after, int limit) {
+        log.info("Obtaining page of {} active Products Accounts views after: {}", limit, after);
+        List<ProductAccountRQRS> productAccounts = this.repository.findViewsByStatePage("ACT", after, limit);
+        log.debug("Returning {} Products Accounts views", productAccounts.size());
+        return productAccounts;
+    }
+
+    /**
+     * Loads the entity through findById so repeated lookups are served from
+     * the productAccount second-level cache region, then maps it.
+     */
+    public ProductAccountRQRS obtainViewById(String id) {
+        return ProductAccountMapper.mapToProductAccountRQRS(this.obtainById(id));
+    }
+
+    public ProductAccount obtainById(String id, Set<String> fields) {
+        if (fields == null) {
+            return this.obtainById(id);
+        }
+        log.info("Looking Product Account by id: {} with fields: {}", id, fields);
+        List<ProductAccount> productAccounts = this.repository.findByIdProjected(id, fields);
+        if (productAccounts.isEmpty()) {
+            throw new CRUDException(404, "Product Account with id: {" + id + "} does not exist");
+        }
+        return productAccounts.get(0);
+    }
+
     public ProductAccount obtainById(String id) {
         log.info("Looking Product Account by id: {}", id);
         Optional<ProductAccount> productAccountOpt = this.repository.findById(id);
@@ -44,6 +97,7 @@ public class ProductAccountService {
             log.info("Creating Product Account with the following info: {}", productAccount);
             productAccount.setCreationDate(new Date());
             this.repository.save(productAccount);
+            this.catalogCache.invalidate();
             log.debug("Product Account created with the following info: {}", productAccount);
         } catch (Exception e) {
             log.error("Error in Product Account creation: {}, with data: {}", e.getMessage(), productAccount);
@@ -0,0 +1,37 @@
+package com.banquito.core.productsaccounts.config;
+
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Virtual thread execution used by the "virtual" profile. It is only compiled
+ * by the virtual-threads Maven profile, which builds for JDK 21. Tomcat hands
+ * every request to a new virtual thread instead of its bounded worker pool and
+ * async MVC work runs on virtual threads too, so a request blocked on Postgres
+ * parks only its own thread.
+ */
+@Slf4j
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Tomcat requests will run on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
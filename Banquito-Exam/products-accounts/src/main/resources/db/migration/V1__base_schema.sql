@@ -0,0 +1,34 @@
+-- Base schema. Written to be idempotent so databases previously created by
+-- hibernate ddl-auto are brought to the same state as new ones.
+
+create sequence if not exists INTEREST_RATE_SEQ increment by 50;
+
+create table if not exists INTEREST_RATE (
+    ID_INTEREST_RATE INTEGER not null,
+    NAME VARCHAR(50) not null,
+    INTEREST_RATE NUMERIC(4, 4) not null,
+    STATE VARCHAR(3) not null constraint CKC_STATE_INTEREST check (STATE in ('ACT', 'INA')),
+    START_DATE DATE not null,
+    END_DATE DATE null,
+    VERSION BIGINT default 0 not null,
+    constraint PK_INTEREST_RATE primary key (ID_INTEREST_RATE)
+);
+
+alter table INTEREST_RATE add column if not exists VERSION BIGINT default 0 not null;
+
+create table if not exists PRODUCT_ACCOUNT (
+    ID_PRODUCT_ACCOUNT VARCHAR(16) not null,
+    NAME VARCHAR(50) not null,
+    DESCRIPTION VARCHAR(500) not null,
+    MINIMUN_BALANCE NUMERIC(10, 2) not null,
+    PAY_INTEREST VARCHAR(1) not null constraint CKC_PAY_INTEREST_PRODUCT_ check (PAY_INTEREST in ('Y', 'N')),
+    ACCEPTS_CHECKS VARCHAR(1) not null constraint CKC_ACCEPTS_CHECKS_PRODUCT_ check (ACCEPTS_CHECKS in ('Y', 'N')),
+    STATE VARCHAR(3) not null constraint CKC_STATE_PRODUCT_ check (STATE in ('DRA', 'ACT', 'INA')),
+    CREATION_DATE TIMESTAMP not null,
+    constraint PK_PRODUCT_ACCOUNT primary key (ID_PRODUCT_ACCOUNT)
+);
+
+-- Ids are handed out in blocks of 50 by the pooled generator; move the
+-- sequence past any id assigned before it existed.
+alter sequence INTEREST_RATE_SEQ increment by 50;
+select setval('INTEREST_RATE_SEQ', (select coalesce(max(ID_INTEREST_RATE), 0) + 50 from INTEREST_RATE));
@@ -0,0 +1,7 @@
+-- Partial indexes over the active rows only, keyed by id so the active
+-- listings and their keyset pages are index range scans that do not grow
+-- with the inactive history.
+
+create index if not exists IDX_INTEREST_RATE_ACTIVE on INTEREST_RATE (ID_INTEREST_RATE) where STATE = 'ACT';
+
+create index if not exists IDX_PRODUCT_ACCOUNT_ACTIVE on PRODUCT_ACCOUNT (ID_PRODUCT_ACCOUNT) where STATE = 'ACT';
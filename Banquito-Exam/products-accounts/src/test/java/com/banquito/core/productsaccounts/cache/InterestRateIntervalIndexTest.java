@@ -0,0 +1,95 @@
+package com.banquito.core.productsaccounts.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.repository.InterestRateRepository;
+
+public class InterestRateIntervalIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2023, 6, 1);
+
+    @Mock
+    private InterestRateRepository interestRateRepository;
+
+    private InterestRateIntervalIndex intervals;
+
+    private InterestRateTable table;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        InterestRate savings = rate(1, "savings", "ACT", LocalDate.of(2023, 1, 1));
+        when(interestRateRepository.findAll()).thenReturn(Arrays.asList(savings));
+        when(interestRateRepository.findByState("ACT")).thenReturn(Arrays.asList(savings));
+        intervals = new InterestRateIntervalIndex(interestRateRepository);
+        intervals.afterSingletonsInstantiated();
+        table = new InterestRateTable(interestRateRepository);
+        table.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void testApplyAll() {
+        // Given
+        InterestRate renamed = rate(1, "checking", "ACT", LocalDate.of(2023, 1, 1));
+        InterestRate newer = rate(2, "checking", "ACT", LocalDate.of(2023, 5, 1));
+        InterestRate inactive = rate(3, "term", "INA", LocalDate.of(2023, 2, 1));
+
+        // When
+        List<InterestRate> rates = Arrays.asList(renamed, newer, inactive, null);
+        intervals.applyAll(rates);
+        table.applyAll(rates);
+
+        // Then
+        assertNull(intervals.findEffective("savings", DAY));
+        assertEquals(Integer.valueOf(2), intervals.findEffective("checking", DAY).getId());
+        assertEquals(Integer.valueOf(1), intervals.findEffective("checking", LocalDate.of(2023, 4, 30)).getId());
+        assertEquals(Integer.valueOf(3), intervals.findEffective("term", DAY).getId());
+        assertEquals(2, table.size());
+        assertTrue(table.getByName("savings").isEmpty());
+        assertEquals(Arrays.asList(renamed, newer), table.getByName("checking"));
+        assertNull(table.getById(3));
+    }
+
+    @Test
+    void testCachedRatesAreReadOnly() {
+        InterestRate cached = table.getById(1);
+        Date start = cached.getStart();
+        start.setTime(0);
+
+        assertThrows(UnsupportedOperationException.class, () -> cached.setName("changed"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> table.getActives().get(0).setInterestRate(FixedDecimal.of("0.5")));
+        assertThrows(UnsupportedOperationException.class,
+                () -> intervals.findEffective("savings", DAY).setState("INA"));
+        assertEquals(LocalDate.of(2023, 1, 1),
+                LocalDate.ofInstant(table.getById(1).getStart().toInstant(), ZoneId.systemDefault()));
+        assertEquals("savings", table.getById(1).getName());
+    }
+
+    private static InterestRate rate(Integer id, String name, String state, LocalDate start) {
+        InterestRate rate = new InterestRate();
+        rate.setId(id);
+        rate.setName(name);
+        rate.setInterestRate(FixedDecimal.of("0.01"));
+        rate.setState(state);
+        rate.setStart(Date.from(start.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        return rate;
+    }
+}
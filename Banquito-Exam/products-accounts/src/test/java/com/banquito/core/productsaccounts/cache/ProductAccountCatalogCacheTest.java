@@ -0,0 +1,70 @@
+package com.banquito.core.productsaccounts.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.banquito.core.productsaccounts.controller.dto.ProductAccountRQRS;
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+import com.banquito.core.productsaccounts.repository.ProductAccountRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ProductAccountCatalogCacheTest {
+
+    @Mock
+    private ProductAccountRepository productAccountRepository;
+
+    private ObjectMapper objectMapper;
+
+    private ProductAccountCatalogCache catalogCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        objectMapper = new ObjectMapper();
+        catalogCache = new ProductAccountCatalogCache(productAccountRepository, objectMapper);
+    }
+
+    @Test
+    void testEncodesOnceUntilInvalidated() throws IOException {
+        // Given
+        ProductAccountRQRS account = ProductAccountRQRS.builder().id("asd123").name("account1")
+                .description("description1").minimunBalance(FixedDecimal.of("150.00")).payInterest("Y")
+                .acceptsChecks("Y").state("ACT").build();
+        when(productAccountRepository.findViewsByState("ACT")).thenReturn(Arrays.asList(account));
+
+        // When
+        ProductAccountCatalogCache.Encoded first = catalogCache.get();
+        ProductAccountCatalogCache.Encoded second = catalogCache.get();
+
+        // Then
+        byte[] expected = objectMapper.writeValueAsBytes(Arrays.asList(account));
+        assertSame(first, second);
+        assertEquals(1, first.size());
+        assertArrayEquals(expected, first.json());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertArrayEquals(expected, gzip.readAllBytes());
+        }
+        verify(productAccountRepository, times(1)).findViewsByState("ACT");
+
+        // When
+        catalogCache.invalidate();
+        catalogCache.get();
+
+        // Then
+        verify(productAccountRepository, times(2)).findViewsByState("ACT");
+    }
+}
@@ -1,5 +1,71 @@
 package com.banquito.core.productsaccounts.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.banquito.core.productsaccounts.controller.dto.InterestRateRQRS;
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.service.InterestRateService;
+
 public class InterestRateControllerTest {
 
+    @Mock
+    private InterestRateService service;
+
+    private InterestRateController controller;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        controller = new InterestRateController(service);
+    }
+
+    @Test
+    void testUpdateWithStrongIfMatch() {
+        InterestRate updated = new InterestRate();
+        updated.setId(1);
+        updated.setName("savings");
+        updated.setInterestRate(FixedDecimal.of("0.02"));
+        updated.setVersion(4L);
+        when(service.update(eq(1), any(InterestRate.class), eq(3L))).thenReturn(updated);
+
+        ResponseEntity<InterestRateRQRS> response = controller.update("1", request(), "\"3\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void testUpdateWithWeakIfMatch() {
+        ResponseEntity<InterestRateRQRS> response = controller.update("1", request(), "W/\"3\"");
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        verify(service, never()).update(anyInt(), any(InterestRate.class), anyLong());
+    }
+
+    @Test
+    void testDeleteWithWeakIfMatch() {
+        ResponseEntity<?> response = controller.delete("1", "W/\"3\"");
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        verify(service, never()).inactivate(anyInt(), anyLong());
+    }
+
+    private static InterestRateRQRS request() {
+        return InterestRateRQRS.builder().name("savings").interestRate(FixedDecimal.of("0.02")).state("ACT").build();
+    }
 }
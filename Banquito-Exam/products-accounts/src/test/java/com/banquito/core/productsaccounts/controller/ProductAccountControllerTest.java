@@ -1,5 +1,51 @@
 package com.banquito.core.productsaccounts.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import com.banquito.core.productsaccounts.cache.ProductAccountCatalogCache;
+import com.banquito.core.productsaccounts.service.ProductAccountService;
+
 public class ProductAccountControllerTest {
 
+    @Mock
+    private ProductAccountService service;
+
+    private ProductAccountController controller;
+
+    private ProductAccountCatalogCache.Encoded catalog;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        controller = new ProductAccountController(service);
+        catalog = new ProductAccountCatalogCache.Encoded(new byte[] { '[', ']' }, new byte[] { 31, -117 }, 0);
+        when(service.listAllActivesEncoded()).thenReturn(catalog);
+    }
+
+    @Test
+    void testObtainAllGzip() {
+        ResponseEntity<?> response = controller.obtainAll(null, null, null, "deflate, gzip;q=0.8");
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertSame(catalog.gzip(), response.getBody());
+    }
+
+    @Test
+    void testObtainAllGzipRefused() {
+        ResponseEntity<?> response = controller.obtainAll(null, null, null, "gzip;q=0, identity");
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertSame(catalog.json(), response.getBody());
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaders().getFirst(HttpHeaders.VARY));
+    }
 }
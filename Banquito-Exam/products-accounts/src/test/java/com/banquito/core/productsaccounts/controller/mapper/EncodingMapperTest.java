@@ -0,0 +1,32 @@
+package com.banquito.core.productsaccounts.controller.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class EncodingMapperTest {
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(EncodingMapper.acceptsGzip("gzip"));
+        assertTrue(EncodingMapper.acceptsGzip("br, gzip, deflate"));
+        assertTrue(EncodingMapper.acceptsGzip("gzip;q=0.5, identity"));
+        assertTrue(EncodingMapper.acceptsGzip("GZIP ; Q=1.0"));
+        assertTrue(EncodingMapper.acceptsGzip("x-gzip"));
+        assertTrue(EncodingMapper.acceptsGzip("br, *;q=0.1"));
+    }
+
+    @Test
+    void testRefusesGzip() {
+        assertFalse(EncodingMapper.acceptsGzip(null));
+        assertFalse(EncodingMapper.acceptsGzip(""));
+        assertFalse(EncodingMapper.acceptsGzip("identity"));
+        assertFalse(EncodingMapper.acceptsGzip("gzip;q=0"));
+        assertFalse(EncodingMapper.acceptsGzip("gzip; q=0.000, deflate"));
+        assertFalse(EncodingMapper.acceptsGzip("gzip;q=0, *"));
+        assertFalse(EncodingMapper.acceptsGzip("*;q=0"));
+        assertFalse(EncodingMapper.acceptsGzip("gzip;q=abc"));
+        assertFalse(EncodingMapper.acceptsGzip("gzipx"));
+    }
+}
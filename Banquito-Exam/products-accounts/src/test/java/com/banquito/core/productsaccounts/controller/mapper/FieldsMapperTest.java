@@ -0,0 +1,40 @@
+package com.banquito.core.productsaccounts.controller.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class FieldsMapperTest {
+
+    @Test
+    void testParseAllFields() {
+        assertNull(FieldsMapper.parse(null, ProductAccountMapper.FIELDS));
+        assertNull(FieldsMapper.parse("", ProductAccountMapper.FIELDS));
+        assertNull(FieldsMapper.parse(" , ", ProductAccountMapper.FIELDS));
+    }
+
+    @Test
+    void testParseKeepsRequestOrder() {
+        Set<String> fields = FieldsMapper.parse("state, name,state", ProductAccountMapper.FIELDS);
+
+        assertEquals(List.of("state", "name"), List.copyOf(fields));
+    }
+
+    @Test
+    void testParseOnlyId() {
+        assertEquals(Set.of("id"), FieldsMapper.parse(" id ", InterestRateMapper.FIELDS));
+    }
+
+    @Test
+    void testParseUnknownField() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> FieldsMapper.parse("name,creationDate", InterestRateMapper.FIELDS));
+
+        assertEquals("Unknown field: creationDate", exception.getMessage());
+    }
+}
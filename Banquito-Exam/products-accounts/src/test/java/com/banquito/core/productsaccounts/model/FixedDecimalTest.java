@@ -0,0 +1,90 @@
+package com.banquito.core.productsaccounts.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.hibernate.type.descriptor.java.MutabilityPlan;
+import org.hibernate.type.spi.TypeConfiguration;
+import org.junit.jupiter.api.Test;
+
+import com.banquito.core.productsaccounts.model.converter.MoneyConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class FixedDecimalTest {
+
+    @Test
+    void testParseAndFormat() {
+        assertEquals("150.00", FixedDecimal.of("150.00").toString());
+        assertEquals("-0.0125", FixedDecimal.of("-0.0125").toString());
+        assertEquals("12", FixedDecimal.of("12").toString());
+        assertEquals("1200", FixedDecimal.of("1.2E+3").toString());
+        assertEquals(FixedDecimal.of("1.5"), FixedDecimal.of("1.50"));
+        assertEquals(FixedDecimal.of("1.5").hashCode(), FixedDecimal.of("1.50").hashCode());
+        assertThrows(NumberFormatException.class, () -> FixedDecimal.of("abc"));
+    }
+
+    @Test
+    void testRoundingMatchesBigDecimal() {
+        String[] values = { "2.345", "2.355", "-2.345", "-2.355", "0.005", "-0.005", "7.999" };
+        RoundingMode[] modes = { RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+                RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN };
+        for (String value : values) {
+            for (RoundingMode mode : modes) {
+                assertEquals(new BigDecimal(value).setScale(2, mode),
+                        FixedDecimal.of(value).setScale(2, mode).toBigDecimal(), value + " " + mode);
+            }
+        }
+        assertThrows(ArithmeticException.class,
+                () -> FixedDecimal.of("2.345").setScale(2, RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    void testSetScaleOutOfRange() {
+        assertEquals(FixedDecimal.ofUnscaled(0, FixedDecimal.MAX_SCALE),
+                FixedDecimal.ZERO.setScale(FixedDecimal.MAX_SCALE, RoundingMode.UNNECESSARY));
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.ZERO.setScale(19, RoundingMode.UNNECESSARY));
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.ZERO.setScale(-1, RoundingMode.HALF_EVEN));
+        assertThrows(ArithmeticException.class,
+                () -> FixedDecimal.ofUnscaled(Long.MAX_VALUE, 0).setScale(1, RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    void testArithmetic() {
+        FixedDecimal balance = FixedDecimal.of("1000.10");
+        FixedDecimal rate = FixedDecimal.of("0.0125");
+        assertEquals(FixedDecimal.of("1000.35"), balance.add(FixedDecimal.of("0.25")));
+        assertEquals(FixedDecimal.of("999.85"), balance.subtract(FixedDecimal.of("0.25")));
+        assertEquals(FixedDecimal.of("12.50"), balance.multiply(rate, 2, RoundingMode.HALF_EVEN));
+        assertEquals(FixedDecimal.of("333.37"), balance.divide(3, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class,
+                () -> FixedDecimal.ofUnscaled(Long.MAX_VALUE, 0).add(FixedDecimal.of("1")));
+    }
+
+    @Test
+    void testJsonAndColumnRoundTrip() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals("150.00", objectMapper.writeValueAsString(FixedDecimal.of("150.00")));
+        assertEquals(FixedDecimal.of("0.0125"), objectMapper.readValue("0.0125", FixedDecimal.class));
+        assertEquals(FixedDecimal.of("12.5"), objectMapper.readValue("\"12.5\"", FixedDecimal.class));
+
+        MoneyConverter converter = new MoneyConverter();
+        assertEquals(new BigDecimal("12.34"), converter.convertToDatabaseColumn(FixedDecimal.of("12.345")));
+        assertEquals("12.30", converter.convertToEntityAttribute(new BigDecimal("12.3")).toString());
+    }
+
+    @Test
+    void testHibernateKeepsSnapshotInstance() {
+        MutabilityPlan<FixedDecimal> plan = new TypeConfiguration().getJavaTypeRegistry()
+                .<FixedDecimal>resolveDescriptor(FixedDecimal.class).getMutabilityPlan();
+        FixedDecimal amount = FixedDecimal.of("150.00");
+
+        assertFalse(plan.isMutable());
+        assertSame(amount, plan.deepCopy(amount));
+        assertSame(amount, plan.assemble(plan.disassemble(amount, null), null));
+    }
+}
@@ -0,0 +1,148 @@
+package com.banquito.core.productsaccounts.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+
+import com.banquito.core.productsaccounts.model.ProductAccount;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+@SuppressWarnings("unchecked")
+public class JpaProjectionsTest {
+
+    private EntityManager entityManager;
+
+    private CriteriaBuilder builder;
+
+    private CriteriaQuery<Tuple> tupleQuery;
+
+    private TypedQuery<Tuple> typedQuery;
+
+    private Root<ProductAccount> root;
+
+    private Path<Object> path;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        builder = mock(CriteriaBuilder.class);
+        tupleQuery = mock(CriteriaQuery.class, RETURNS_SELF);
+        typedQuery = mock(TypedQuery.class, RETURNS_SELF);
+        root = mock(Root.class);
+        path = mock(Path.class);
+
+        when(entityManager.getCriteriaBuilder()).thenReturn(builder);
+        when(builder.createTupleQuery()).thenReturn(tupleQuery);
+        doReturn(root).when(tupleQuery).from(ProductAccount.class);
+        doReturn(path).when(root).get(anyString());
+        doReturn(path).when(path).alias(anyString());
+        when(entityManager.createQuery(tupleQuery)).thenReturn(typedQuery);
+    }
+
+    @Test
+    void testFindBySelectsOnlyRequestedFields() {
+        Tuple row = mock(Tuple.class);
+        when(row.get("name")).thenReturn("Savings");
+        when(row.get("state")).thenReturn("ACT");
+        when(typedQuery.getResultList()).thenReturn(List.of(row));
+
+        List<ProductAccount> result = JpaProjections.findBy(entityManager, ProductAccount.class, "id", "P1",
+                new LinkedHashSet<>(List.of("name", "state")));
+
+        assertEquals(1, result.size());
+        assertEquals("Savings", result.get(0).getName());
+        assertEquals("ACT", result.get(0).getState());
+        assertNull(result.get(0).getId());
+        assertNull(result.get(0).getDescription());
+        assertEquals(2, selections().size());
+        verify(path).alias("name");
+        verify(path).alias("state");
+        verify(path, never()).alias("description");
+        verify(builder).equal(path, "P1");
+    }
+
+    @Test
+    void testFindByOnlyId() {
+        Tuple row = mock(Tuple.class);
+        when(row.get("id")).thenReturn("P1");
+        when(typedQuery.getResultList()).thenReturn(List.of(row));
+
+        List<ProductAccount> result = JpaProjections.findBy(entityManager, ProductAccount.class, "state", "ACT",
+                Set.of("id"));
+
+        assertEquals("P1", result.get(0).getId());
+        assertNull(result.get(0).getName());
+        assertEquals(1, selections().size());
+    }
+
+    @Test
+    void testFindPageAlwaysSelectsId() {
+        Tuple row = mock(Tuple.class);
+        when(row.get("name")).thenReturn("Savings");
+        when(row.get("id")).thenReturn("P2");
+        when(typedQuery.getResultList()).thenReturn(List.of(row));
+
+        List<ProductAccount> result = JpaProjections.findPage(entityManager, ProductAccount.class, "ACT", "P1", 5,
+                Set.of("name"));
+
+        assertEquals("P2", result.get(0).getId());
+        assertEquals("Savings", result.get(0).getName());
+        assertEquals(2, selections().size());
+        verify(path).alias("id");
+        verify(builder).greaterThan(ArgumentMatchers.<Expression<String>>any(), eq("P1"));
+        verify(typedQuery).setMaxResults(5);
+    }
+
+    @Test
+    void testFindPageWithoutFieldsLoadsEntities() {
+        CriteriaQuery<ProductAccount> entityQuery = mock(CriteriaQuery.class, RETURNS_SELF);
+        TypedQuery<ProductAccount> entityTypedQuery = mock(TypedQuery.class, RETURNS_SELF);
+        List<ProductAccount> entities = List.of(new ProductAccount());
+        when(builder.createQuery(ProductAccount.class)).thenReturn(entityQuery);
+        doReturn(root).when(entityQuery).from(ProductAccount.class);
+        when(entityManager.createQuery(entityQuery)).thenReturn(entityTypedQuery);
+        when(entityTypedQuery.getResultList()).thenReturn(entities);
+
+        List<ProductAccount> result = JpaProjections.findPage(entityManager, ProductAccount.class, "ACT", null, 5,
+                null);
+
+        assertSame(entities, result);
+        verify(entityQuery).select(root);
+        verify(entityTypedQuery).setMaxResults(5);
+        verify(builder, never()).createTupleQuery();
+        verify(builder, never()).greaterThan(ArgumentMatchers.<Expression<String>>any(), any(String.class));
+    }
+
+    private List<Selection<?>> selections() {
+        ArgumentCaptor<List<Selection<?>>> selections = ArgumentCaptor.forClass(List.class);
+        verify(tupleQuery).multiselect(selections.capture());
+        return selections.getValue();
+    }
+}
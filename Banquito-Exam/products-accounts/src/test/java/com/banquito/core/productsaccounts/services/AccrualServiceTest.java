@@ -0,0 +1,261 @@
+package com.banquito.core.productsaccounts.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.banquito.core.productsaccounts.accrual.AccrualMath;
+import com.banquito.core.productsaccounts.cache.InterestRateIntervalIndex;
+import com.banquito.core.productsaccounts.exception.CRUDException;
+import com.banquito.core.productsaccounts.model.AccrualReport;
+import com.banquito.core.productsaccounts.model.FixedDecimal;
+import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.model.ProductAccount;
+import com.banquito.core.productsaccounts.repository.InterestRateRepository;
+import com.banquito.core.productsaccounts.repository.ProductAccountRepository;
+import com.banquito.core.productsaccounts.service.AccrualService;
+
+public class AccrualServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2023, 3, 1);
+    private static final String SAVINGS_RUN = "accrual-1-" + AccrualMath.toRateUnits(FixedDecimal.of("0.0365")) + "-";
+
+    @Mock
+    private ProductAccountRepository productAccountRepository;
+
+    @Mock
+    private InterestRateRepository interestRateRepository;
+
+    @TempDir
+    Path workDir;
+
+    private Path inputDir;
+
+    private Path outputDir;
+
+    private InterestRateIntervalIndex intervals;
+
+    private AccrualService accrualService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        InterestRate rate = new InterestRate();
+        rate.setId(1);
+        rate.setName("savings");
+        rate.setInterestRate(FixedDecimal.of("0.0365"));
+        rate.setState("ACT");
+        rate.setStart(Date.from(LocalDate.of(2023, 1, 1).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        when(interestRateRepository.findAll()).thenReturn(Arrays.asList(rate));
+        intervals = new InterestRateIntervalIndex(interestRateRepository);
+        intervals.load();
+
+        ProductAccount savings = new ProductAccount();
+        savings.setId("SAV");
+        savings.setMinimunBalance(FixedDecimal.of("10.00"));
+        savings.setPayInterest("Y");
+        savings.setState("ACT");
+        ProductAccount checking = new ProductAccount();
+        checking.setId("CHK");
+        checking.setMinimunBalance(FixedDecimal.of("0.00"));
+        checking.setPayInterest("N");
+        checking.setState("ACT");
+        when(productAccountRepository.findAll()).thenReturn(Arrays.asList(savings, checking));
+
+        inputDir = Files.createDirectories(workDir.resolve("in"));
+        outputDir = workDir.resolve("out");
+        accrualService = new AccrualService(productAccountRepository, intervals, inputDir.toString(),
+                outputDir.toString(), 2, 2, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accrualService.shutdown();
+    }
+
+    @Test
+    void testAccrue() throws IOException {
+        // Given
+        Files.write(inputDir.resolve("001.csv"), Arrays.asList(
+                "A1,SAV,1000.00", "A2,SAV,5.00", "A3,CHK,1000.00", "broken", "A4,SAV,12.5"),
+                StandardCharsets.UTF_8);
+        Files.write(inputDir.resolve("002.csv"), Arrays.asList("A5,SAV,2000", "A6,XXX,100.00"),
+                StandardCharsets.UTF_8);
+
+        // When
+        AccrualReport report = accrualService.accrue("savings", DATE);
+
+        // Then
+        assertEquals(2, report.getChunks());
+        assertEquals(6, report.getRecords());
+        assertEquals(3, report.getAccrued());
+        assertEquals(3, report.getIneligible());
+        assertEquals(1, report.getInvalid());
+        assertEquals(FixedDecimal.of("0.30"), report.getTotalAccrual());
+        List<String> first = Files.readAllLines(outputDir.resolve(SAVINGS_RUN + DATE).resolve("001.csv"),
+                StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList("A1,SAV,1000.00,0.10", "A2,SAV,5.00,0.00", "A3,CHK,1000.00,0.00",
+                "A4,SAV,12.50,0.00"), first);
+    }
+
+    @Test
+    void testAccrueResumesFromCheckpoint() throws IOException {
+        // Given
+        Files.write(inputDir.resolve("001.csv"), Arrays.asList("A1,SAV,1000.00"), StandardCharsets.UTF_8);
+        accrualService.accrue("savings", DATE);
+        Files.write(inputDir.resolve("002.csv"), Arrays.asList("A2,SAV,3000.00"), StandardCharsets.UTF_8);
+
+        // When
+        AccrualReport report = accrualService.accrue("savings", DATE);
+
+        // Then
+        assertEquals(1, report.getChunks());
+        assertEquals(1, report.getResumedChunks());
+        assertEquals(1, report.getRecords());
+        assertEquals(FixedDecimal.of("0.30"), report.getTotalAccrual());
+    }
+
+    @Test
+    void testAccrueKeepsEachRunApart() throws IOException {
+        // Given
+        Files.write(inputDir.resolve("001.csv"), Arrays.asList("A1,SAV,1000.00"), StandardCharsets.UTF_8);
+        accrualService.accrue("savings", DATE);
+        Files.write(inputDir.resolve("001.csv"), Arrays.asList("A1,SAV,3000.00"), StandardCharsets.UTF_8);
+
+        // When
+        AccrualReport report = accrualService.accrue("savings", DATE.plusDays(1));
+
+        // Then
+        assertEquals(1, report.getChunks());
+        assertEquals(0, report.getResumedChunks());
+        assertEquals(Arrays.asList("A1,SAV,1000.00,0.10"), Files.readAllLines(
+                outputDir.resolve(SAVINGS_RUN + DATE).resolve("001.csv"), StandardCharsets.UTF_8));
+        assertEquals(Arrays.asList("A1,SAV,3000.00,0.30"), Files.readAllLines(
+                outputDir.resolve(SAVINGS_RUN + DATE.plusDays(1)).resolve("001.csv"),
+                StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testAccrueKeysRunsByRate() throws IOException {
+        // Given
+        Files.write(inputDir.resolve("001.csv"), Arrays.asList("A1,SAV,1000.00"), StandardCharsets.UTF_8);
+        intervals.apply(rate(2, "sav.ings", "0.0365"));
+        intervals.apply(rate(3, "sav,ings", "0.0730"));
+        accrualService.accrue("sav.ings", DATE);
+
+        // When
+        AccrualReport report = accrualService.accrue("sav,ings", DATE);
+
+        // Then
+        assertEquals(1, report.getChunks());
+        assertEquals(0, report.getResumedChunks());
+        assertEquals(FixedDecimal.of("0.20"), report.getTotalAccrual());
+    }
+
+    @Test
+    void testAccrueRestartsWhenRateChanges() throws IOException {
+        // Given
+        Files.write(inputDir.resolve("001.csv"), Arrays.asList("A1,SAV,1000.00"), StandardCharsets.UTF_8);
+        accrualService.accrue("savings", DATE);
+        intervals.apply(rate(1, "savings", "0.0730"));
+
+        // When
+        AccrualReport report = accrualService.accrue("savings", DATE);
+
+        // Then
+        assertEquals(1, report.getChunks());
+        assertEquals(0, report.getResumedChunks());
+        assertEquals(FixedDecimal.of("0.20"), report.getTotalAccrual());
+    }
+
+    @Test
+    void testAccrueRejectsForeignCheckpoint() throws IOException {
+        // Given
+        Files.write(inputDir.resolve("001.csv"), Arrays.asList("A1,SAV,1000.00"), StandardCharsets.UTF_8);
+        Path runDir = Files.createDirectories(outputDir.resolve(SAVINGS_RUN + DATE));
+        Files.write(runDir.resolve("accrual.checkpoint"), Arrays.asList("001.csv"), StandardCharsets.UTF_8);
+
+        // When
+        CRUDException exception = assertThrows(CRUDException.class, () -> accrualService.accrue("savings", DATE));
+
+        // Then
+        assertEquals(550, exception.getErrorCode());
+    }
+
+    @Test
+    void testAccrueRejectsConcurrentRun() throws Exception {
+        // Given
+        Files.write(inputDir.resolve("001.csv"), Arrays.asList("A1,SAV,1000.00"), StandardCharsets.UTF_8);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<ProductAccount> products = productAccountRepository.findAll();
+        when(productAccountRepository.findAll()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return products;
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<AccrualReport> first = executor.submit(() -> accrualService.accrue("savings", DATE));
+            started.await(10, TimeUnit.SECONDS);
+
+            // When
+            CRUDException exception = assertThrows(CRUDException.class,
+                    () -> accrualService.accrue("savings", DATE));
+
+            // Then
+            assertEquals(409, exception.getErrorCode());
+            release.countDown();
+            assertEquals(1, first.get(10, TimeUnit.SECONDS).getChunks());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testAccrueWithoutEffectiveRate() {
+        assertThrows(CRUDException.class, () -> accrualService.accrue("savings", LocalDate.of(2022, 12, 31)));
+    }
+
+    @Test
+    void testDailyAccrualRoundsHalfEven() {
+        long rate = AccrualMath.toRateUnits(FixedDecimal.of("0.0365"));
+        assertEquals(2, AccrualMath.dailyAccrual(25000, rate, 365));
+        assertEquals(4, AccrualMath.dailyAccrual(35000, rate, 365));
+        assertEquals(-2, AccrualMath.dailyAccrual(-25000, rate, 365));
+        assertEquals(90000000000000L, AccrualMath.dailyAccrual(900000000000000000L, rate, 365));
+    }
+
+    private static InterestRate rate(Integer id, String name, String value) {
+        InterestRate rate = new InterestRate();
+        rate.setId(id);
+        rate.setName(name);
+        rate.setInterestRate(FixedDecimal.of(value));
+        rate.setState("ACT");
+        rate.setStart(Date.from(LocalDate.of(2023, 1, 1).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        return rate;
+    }
+}
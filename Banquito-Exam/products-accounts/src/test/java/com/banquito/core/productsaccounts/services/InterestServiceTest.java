@@ -2,29 +2,41 @@ package com.banquito.core.productsaccounts.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import org.mockito.MockitoAnnotations;
 
+import com.banquito.core.productsaccounts.cache.InterestRateIntervalIndex;
+import com.banquito.core.productsaccounts.cache.InterestRateTable;
+import com.banquito.core.productsaccounts.controller.dto.InterestRateRQRS;
 import com.banquito.core.productsaccounts.exception.CRUDException;
+import com.banquito.core.productsaccounts.model.FixedDecimal;
 import com.banquito.core.productsaccounts.model.InterestRate;
+import com.banquito.core.productsaccounts.model.InterestRateImportResult;
 import com.banquito.core.productsaccounts.repository.InterestRateRepository;
 import com.banquito.core.productsaccounts.service.InterestRateService;
 
@@ -33,12 +45,19 @@ public class InterestServiceTest {
     @Mock
     private InterestRateRepository interestRateRepository;
 
-    @InjectMocks
+    private InterestRateTable interestRateTable;
+
+    private InterestRateIntervalIndex interestRateIntervalIndex;
+
     private InterestRateService interestRateService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        interestRateTable = new InterestRateTable(interestRateRepository);
+        interestRateIntervalIndex = new InterestRateIntervalIndex(interestRateRepository);
+        interestRateService = new InterestRateService(interestRateRepository, interestRateTable,
+                interestRateIntervalIndex);
     }
 
     @Test
@@ -47,28 +66,176 @@ public class InterestServiceTest {
         InterestRate rate1 = new InterestRate();
         rate1.setId(1);
         rate1.setName("rate1");
-        rate1.setInterestRate(new BigDecimal("0.01"));
+        rate1.setInterestRate(FixedDecimal.of("0.01"));
         rate1.setState("ACT");
         rate1.setStart(new Date());
 
         InterestRate rate2 = new InterestRate();
         rate2.setId(2);
         rate2.setName("rate2");
-        rate2.setInterestRate(new BigDecimal("0.02"));
+        rate2.setInterestRate(FixedDecimal.of("0.02"));
         rate2.setState("ACT");
         rate2.setStart(new Date());
 
         List<InterestRate> expectedRates = Arrays.asList(rate1, rate2);
         when(interestRateRepository.findByState("ACT")).thenReturn(expectedRates);
+        interestRateTable.load();
 
         // When
         List<InterestRate> actualRates = interestRateService.listAllActives();
+        interestRateService.listAllActives();
 
         // Then
         verify(interestRateRepository, times(1)).findByState("ACT");
         assertEquals(expectedRates, actualRates);
     }
 
+    @Test
+    void testListActivesPage() {
+        // Given
+        InterestRate rate1 = new InterestRate();
+        rate1.setId(1);
+        rate1.setName("rate1");
+        rate1.setInterestRate(FixedDecimal.of("0.01"));
+        rate1.setState("ACT");
+        InterestRate rate2 = new InterestRate();
+        rate2.setId(5);
+        rate2.setName("rate2");
+        rate2.setInterestRate(FixedDecimal.of("0.02"));
+        rate2.setState("ACT");
+        InterestRate rate3 = new InterestRate();
+        rate3.setId(9);
+        rate3.setName("rate3");
+        rate3.setInterestRate(FixedDecimal.of("0.03"));
+        rate3.setState("ACT");
+        when(interestRateRepository.findByState("ACT")).thenReturn(Arrays.asList(rate3, rate1, rate2));
+        interestRateTable.load();
+
+        // When
+        List<InterestRate> first = interestRateService.listActivesPage(null, 2, null);
+        List<InterestRate> second = interestRateService.listActivesPage(5, 2, Set.of("name"));
+
+        // Then
+        assertEquals(Arrays.asList(rate1, rate2), first);
+        assertEquals(1, second.size());
+        assertEquals(Integer.valueOf(9), second.get(0).getId());
+        assertEquals("rate3", second.get(0).getName());
+        assertNull(second.get(0).getInterestRate());
+    }
+
+    @Test
+    void testActiveTableFollowsWrites() {
+        // Given
+        InterestRate rate = new InterestRate();
+        rate.setId(1);
+        rate.setName("rate1");
+        rate.setInterestRate(FixedDecimal.of("0.01"));
+        rate.setState("ACT");
+        rate.setStart(new Date());
+        InterestRate inactive = new InterestRate();
+        inactive.setId(1);
+        inactive.setName("rate1");
+        inactive.setInterestRate(FixedDecimal.of("0.01"));
+        inactive.setState("INA");
+        inactive.setStart(rate.getStart());
+        inactive.setEnd(new Date());
+        when(interestRateRepository.save(any(InterestRate.class))).thenReturn(rate);
+        when(interestRateRepository.findById(1)).thenReturn(Optional.of(inactive));
+        when(interestRateRepository.inactivate(eq(1), any(Date.class), isNull())).thenReturn(inactive);
+
+        // When
+        interestRateService.create(rate);
+        InterestRate cached = interestRateService.obtainById(1);
+
+        // Then
+        verify(interestRateRepository, never()).findById(1);
+        assertEquals(rate, cached);
+        assertEquals(List.of(rate), interestRateTable.getByName("rate1"));
+
+        // When
+        interestRateService.inactivate(1);
+
+        // Then
+        assertEquals(0, interestRateService.listAllActives().size());
+        assertEquals("INA", interestRateService.obtainById(1).getState());
+    }
+
+    @Test
+    void testObtainEffective() {
+        // Given
+        InterestRate closed = new InterestRate();
+        closed.setId(1);
+        closed.setName("savings");
+        closed.setInterestRate(FixedDecimal.of("0.01"));
+        closed.setState("INA");
+        closed.setStart(toDate(LocalDate.of(2022, 1, 1)));
+        closed.setEnd(toDate(LocalDate.of(2022, 12, 31)));
+
+        InterestRate open = new InterestRate();
+        open.setId(2);
+        open.setName("savings");
+        open.setInterestRate(FixedDecimal.of("0.02"));
+        open.setState("ACT");
+        open.setStart(toDate(LocalDate.of(2023, 1, 1)));
+
+        InterestRate other = new InterestRate();
+        other.setId(3);
+        other.setName("term");
+        other.setInterestRate(FixedDecimal.of("0.05"));
+        other.setState("ACT");
+        other.setStart(toDate(LocalDate.of(2022, 6, 1)));
+        when(interestRateRepository.findAll()).thenReturn(Arrays.asList(open, other, closed));
+        interestRateIntervalIndex.load();
+
+        // When
+        InterestRate before = interestRateIntervalIndex.findEffective("savings", LocalDate.of(2021, 12, 31));
+        InterestRate first = interestRateService.obtainEffective("savings", LocalDate.of(2022, 12, 31));
+        InterestRate second = interestRateService.obtainEffective("savings", LocalDate.of(2023, 1, 1));
+
+        // Then
+        assertNull(before);
+        assertEquals(Integer.valueOf(1), first.getId());
+        assertEquals(Integer.valueOf(2), second.getId());
+        assertThrows(CRUDException.class,
+                () -> interestRateService.obtainEffective("term", LocalDate.of(2022, 5, 31)));
+    }
+
+    @Test
+    void testObtainEffectiveAfterInactivate() {
+        // Given
+        InterestRate rate = new InterestRate();
+        rate.setId(1);
+        rate.setName("savings");
+        rate.setInterestRate(FixedDecimal.of("0.01"));
+        rate.setState("ACT");
+        rate.setStart(toDate(LocalDate.of(2022, 1, 1)));
+        InterestRate inactive = new InterestRate();
+        inactive.setId(1);
+        inactive.setName("savings");
+        inactive.setInterestRate(FixedDecimal.of("0.01"));
+        inactive.setState("INA");
+        inactive.setStart(rate.getStart());
+        inactive.setEnd(new Date());
+        when(interestRateRepository.findAll()).thenReturn(Arrays.asList(rate));
+        when(interestRateRepository.inactivate(eq(1), any(Date.class), isNull())).thenReturn(inactive);
+        interestRateIntervalIndex.load();
+        LocalDate future = LocalDate.now().plusDays(1);
+
+        // When
+        InterestRate before = interestRateIntervalIndex.findEffective("savings", future);
+        interestRateService.inactivate(1);
+        InterestRate after = interestRateIntervalIndex.findEffective("savings", future);
+
+        // Then
+        assertEquals(Integer.valueOf(1), before.getId());
+        assertNull(after);
+        assertNotNull(interestRateIntervalIndex.findEffective("savings", LocalDate.now()));
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
     @Test
     void testObtainById() {
         // Given
@@ -76,7 +243,7 @@ public class InterestServiceTest {
         InterestRate expectedRate = new InterestRate();
         expectedRate.setId(id);
         expectedRate.setName("rate1");
-        expectedRate.setInterestRate(new BigDecimal("0.01"));
+        expectedRate.setInterestRate(FixedDecimal.of("0.01"));
         expectedRate.setState("ACT");
         expectedRate.setStart(new Date());
         when(interestRateRepository.findById(id)).thenReturn(Optional.of(expectedRate));
@@ -89,6 +256,51 @@ public class InterestServiceTest {
         assertEquals(expectedRate, actualRate);
     }
 
+    @Test
+    void testObtainViewById() {
+        // Given
+        InterestRate active = new InterestRate();
+        active.setId(1);
+        active.setName("rate1");
+        active.setInterestRate(FixedDecimal.of("0.01"));
+        active.setState("ACT");
+        active.setStart(new Date());
+        active.setVersion(2L);
+        when(interestRateRepository.findByState("ACT")).thenReturn(Arrays.asList(active));
+        interestRateTable.load();
+        InterestRate inactive = new InterestRate();
+        inactive.setId(2);
+        inactive.setName("rate2");
+        inactive.setInterestRate(FixedDecimal.of("0.02"));
+        inactive.setState("INA");
+        inactive.setVersion(5L);
+        when(interestRateRepository.findById(2)).thenReturn(Optional.of(inactive));
+
+        // When
+        InterestRateRQRS cached = interestRateService.obtainViewById(1);
+        InterestRateRQRS stored = interestRateService.obtainViewById(2);
+
+        // Then
+        assertEquals("rate1", cached.getName());
+        assertEquals(2L, cached.getVersion());
+        verify(interestRateRepository, never()).findById(1);
+        assertEquals("rate2", stored.getName());
+        assertEquals(5L, stored.getVersion());
+        verify(interestRateRepository, times(1)).findById(2);
+    }
+
+    @Test
+    void testObtainViewByIdNotFound() {
+        // Given
+        when(interestRateRepository.findById(1)).thenReturn(Optional.empty());
+
+        // When
+        Exception exception = assertThrows(CRUDException.class, () -> interestRateService.obtainViewById(1));
+
+        // Then
+        assertEquals("Interest Rate with id: {1} does not exist", exception.getMessage());
+    }
+
     @Test
     void testObtainByIdNotFound() {
         // Given
@@ -110,7 +322,7 @@ public class InterestServiceTest {
         // Given
         InterestRate interestRate = new InterestRate();
         interestRate.setName("test");
-        interestRate.setInterestRate(new BigDecimal("0.01"));
+        interestRate.setInterestRate(FixedDecimal.of("0.01"));
         interestRate.setState("ACT");
         interestRate.setStart(new Date());
 
@@ -122,12 +334,68 @@ public class InterestServiceTest {
         verify(interestRateRepository, times(1)).save(interestRate);
     }
 
+    @Test
+    void testBulkCreate() {
+        // Given
+        InterestRate first = new InterestRate();
+        first.setName("rate1");
+        first.setInterestRate(FixedDecimal.of("0.01"));
+        first.setState("ACT");
+        first.setStart(new Date());
+        InterestRate second = new InterestRate();
+        second.setName("rate2");
+        second.setInterestRate(FixedDecimal.of("0.02"));
+        second.setState("ACT");
+        second.setStart(new Date());
+        doAnswer(invocation -> {
+            List<InterestRate> rates = invocation.getArgument(0);
+            for (int i = 0; i < rates.size(); i++) {
+                rates.get(i).setId(51 + i);
+            }
+            return null;
+        }).when(interestRateRepository).insertAll(anyList());
+
+        // When
+        List<InterestRateImportResult> results = interestRateService.bulkCreate(Arrays.asList(first, second));
+
+        // Then
+        verify(interestRateRepository, times(1)).insertAll(Arrays.asList(first, second));
+        assertEquals(InterestRateImportResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(Integer.valueOf(52), results.get(1).getId());
+        assertEquals(2, interestRateService.listAllActives().size());
+        assertEquals(Integer.valueOf(51), interestRateIntervalIndex.findEffective("rate1", LocalDate.now()).getId());
+        assertEquals(Integer.valueOf(52), interestRateIntervalIndex.findEffective("rate2", LocalDate.now()).getId());
+    }
+
+    @Test
+    void testBulkCreateWithInvalidRow() {
+        // Given
+        InterestRate valid = new InterestRate();
+        valid.setName("rate1");
+        valid.setInterestRate(FixedDecimal.of("0.01"));
+        valid.setState("ACT");
+        valid.setStart(new Date());
+        InterestRate invalid = new InterestRate();
+        invalid.setName("rate2");
+        invalid.setInterestRate(FixedDecimal.of("1.5"));
+        invalid.setState("ACT");
+        invalid.setStart(new Date());
+
+        // When
+        List<InterestRateImportResult> results = interestRateService.bulkCreate(Arrays.asList(valid, invalid));
+
+        // Then
+        verify(interestRateRepository, never()).insertAll(anyList());
+        assertEquals(InterestRateImportResult.Status.REJECTED, results.get(0).getStatus());
+        assertEquals(InterestRateImportResult.Status.INVALID, results.get(1).getStatus());
+    }
+
     @Test
     void testCreateException() {
         // Given
         InterestRate interestRate = new InterestRate();
         interestRate.setName("test");
-        interestRate.setInterestRate(new BigDecimal("0.01"));
+        interestRate.setInterestRate(FixedDecimal.of("0.01"));
         interestRate.setState("ACT");
         interestRate.setStart(new Date());
 
@@ -147,28 +415,27 @@ public class InterestServiceTest {
         Integer id = 1;
         InterestRate interestRate = new InterestRate();
         interestRate.setName("test");
-        interestRate.setInterestRate(new BigDecimal("0.02"));
+        interestRate.setInterestRate(FixedDecimal.of("0.02"));
         interestRate.setState("ACT");
         interestRate.setStart(new Date());
         InterestRate expectedRate = new InterestRate();
         expectedRate.setId(id);
-        expectedRate.setName("rate1");
-        expectedRate.setInterestRate(new BigDecimal("0.01"));
+        expectedRate.setName("test");
+        expectedRate.setInterestRate(FixedDecimal.of("0.02"));
         expectedRate.setState("ACT");
         expectedRate.setStart(new Date());
-        when(interestRateRepository.findById(id)).thenReturn(Optional.of(expectedRate));
-        when(interestRateRepository.save(any(InterestRate.class))).thenReturn(interestRate);
+        expectedRate.setVersion(4L);
+        when(interestRateRepository.updateDetails(id, "test", FixedDecimal.of("0.02"), 3L)).thenReturn(expectedRate);
 
         // When
-        interestRateService.update(id, interestRate);
+        InterestRate actualRate = interestRateService.update(id, interestRate, 3L);
 
         // Then
-        verify(interestRateRepository, times(1)).findById(id);
-        verify(interestRateRepository, times(1)).save(any(InterestRate.class));
-        assertEquals(interestRate.getName(), expectedRate.getName());
-        assertEquals(interestRate.getInterestRate(), expectedRate.getInterestRate());
-        assertEquals(interestRate.getState(), expectedRate.getState());
-        assertEquals(interestRate.getStart(), expectedRate.getStart());
+        verify(interestRateRepository, times(1)).updateDetails(id, "test", FixedDecimal.of("0.02"), 3L);
+        verify(interestRateRepository, never()).findById(id);
+        verify(interestRateRepository, never()).save(any(InterestRate.class));
+        assertEquals(expectedRate, actualRate);
+        assertEquals(expectedRate, interestRateTable.getById(id));
     }
 
     @Test
@@ -178,71 +445,76 @@ public class InterestServiceTest {
         InterestRate expectedRate = new InterestRate();
         expectedRate.setId(id);
         expectedRate.setName("rate1");
-        expectedRate.setInterestRate(new BigDecimal("0.01"));
-        expectedRate.setState("ACT");
+        expectedRate.setInterestRate(FixedDecimal.of("0.01"));
+        expectedRate.setState("INA");
         expectedRate.setStart(new Date());
-        when(interestRateRepository.findById(id)).thenReturn(Optional.of(expectedRate));
+        expectedRate.setEnd(new Date());
+        when(interestRateRepository.inactivate(eq(id), any(Date.class), isNull())).thenReturn(expectedRate);
 
         // When
         interestRateService.inactivate(id);
 
         // Then
-        verify(interestRateRepository, times(1)).findById(id);
-        verify(interestRateRepository, times(1)).save(expectedRate);
-        assertEquals("INA", expectedRate.getState());
-        assertNotNull(expectedRate.getEnd());
+        verify(interestRateRepository, times(1)).inactivate(eq(id), any(Date.class), isNull());
+        verify(interestRateRepository, never()).findById(id);
+        verify(interestRateRepository, never()).save(any(InterestRate.class));
     }
 
     @Test
     void testUpdateNotFound() {
         // Given
         Integer id = 1;
-        InterestRate interestRate = new InterestRate();
-        interestRate.setName("test");
-        interestRate.setInterestRate(new BigDecimal("0.01"));
-        interestRate.setState("ACT");
-        interestRate.setStart(new Date());
-
         InterestRate updatedInterestRate = new InterestRate();
         updatedInterestRate.setName("updated");
-        updatedInterestRate.setInterestRate(new BigDecimal("0.02"));
+        updatedInterestRate.setInterestRate(FixedDecimal.of("0.02"));
         updatedInterestRate.setState("ACT");
         updatedInterestRate.setStart(new Date());
 
         // When
-        when(interestRateRepository.findById(id)).thenReturn(Optional.empty());
+        when(interestRateRepository.updateDetails(id, "updated", FixedDecimal.of("0.02"), null)).thenReturn(null);
 
         // Then
-        assertThrows(CRUDException.class, () -> interestRateService.update(id, updatedInterestRate));
-        verify(interestRateRepository, times(1)).findById(id);
+        CRUDException exception = assertThrows(CRUDException.class,
+                () -> interestRateService.update(id, updatedInterestRate));
+        assertEquals(404, exception.getErrorCode());
+    }
 
+    @Test
+    void testUpdateVersionMismatch() {
+        // Given
+        Integer id = 1;
+        InterestRate updatedInterestRate = new InterestRate();
+        updatedInterestRate.setName("updated");
+        updatedInterestRate.setInterestRate(FixedDecimal.of("0.02"));
+
+        // When
+        when(interestRateRepository.updateDetails(id, "updated", FixedDecimal.of("0.02"), 2L)).thenReturn(null);
+        when(interestRateRepository.existsById(id)).thenReturn(true);
+
+        // Then
+        CRUDException exception = assertThrows(CRUDException.class,
+                () -> interestRateService.update(id, updatedInterestRate, 2L));
+        assertEquals(412, exception.getErrorCode());
     }
 
     @Test
     void testUpdateError() {
         // Given
         Integer id = 1;
-        InterestRate interestRate = new InterestRate();
-        interestRate.setName("test");
-        interestRate.setInterestRate(new BigDecimal("0.01"));
-        interestRate.setState("ACT");
-        interestRate.setStart(new Date());
-
         InterestRate updatedInterestRate = new InterestRate();
         updatedInterestRate.setName("updated");
-        updatedInterestRate.setInterestRate(new BigDecimal("0.02"));
+        updatedInterestRate.setInterestRate(FixedDecimal.of("0.02"));
         updatedInterestRate.setState("ACT");
         updatedInterestRate.setStart(new Date());
 
         // When
-        when(interestRateRepository.findById(id)).thenReturn(Optional.of(interestRate));
         doThrow(new RuntimeException("Something went wrong")).when(interestRateRepository)
-                .save(any(InterestRate.class));
+                .updateDetails(id, "updated", FixedDecimal.of("0.02"), null);
 
         // Then
-        assertThrows(CRUDException.class, () -> interestRateService.update(id, updatedInterestRate));
-        verify(interestRateRepository, times(1)).findById(id);
-        verify(interestRateRepository, times(1)).save(updatedInterestRate);
+        CRUDException exception = assertThrows(CRUDException.class,
+                () -> interestRateService.update(id, updatedInterestRate));
+        assertEquals(520, exception.getErrorCode());
     }
 
 }
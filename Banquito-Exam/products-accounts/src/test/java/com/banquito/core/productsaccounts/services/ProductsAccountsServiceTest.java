@@ -8,7 +8,6 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -21,7 +20,10 @@ import org.mockito.Mock;
 
 import org.mockito.MockitoAnnotations;
 
+import com.banquito.core.productsaccounts.cache.ProductAccountCatalogCache;
+import com.banquito.core.productsaccounts.controller.dto.ProductAccountRQRS;
 import com.banquito.core.productsaccounts.exception.CRUDException;
+import com.banquito.core.productsaccounts.model.FixedDecimal;
 import com.banquito.core.productsaccounts.model.ProductAccount;
 import com.banquito.core.productsaccounts.repository.ProductAccountRepository;
 import com.banquito.core.productsaccounts.service.ProductAccountService;
@@ -30,6 +32,9 @@ public class ProductsAccountsServiceTest {
     @Mock
     private ProductAccountRepository productAccountRepository;
 
+    @Mock
+    private ProductAccountCatalogCache catalogCache;
+
     @InjectMocks
     private ProductAccountService productAccountService;
 
@@ -45,7 +50,7 @@ public class ProductsAccountsServiceTest {
         account1.setId("asd123");
         account1.setName("account1");
         account1.setDescription("description1");
-        account1.setMinimunBalance(new BigDecimal("150.00"));
+        account1.setMinimunBalance(FixedDecimal.of("150.00"));
         account1.setPayInterest("Y");
         account1.setAcceptsChecks("Y");
         account1.setState("ACT");
@@ -55,7 +60,7 @@ public class ProductsAccountsServiceTest {
         account2.setId("zxc123");
         account2.setName("account2");
         account2.setDescription("description2");
-        account2.setMinimunBalance(new BigDecimal("400.00"));
+        account2.setMinimunBalance(FixedDecimal.of("400.00"));
         account2.setPayInterest("N");
         account2.setAcceptsChecks("N");
         account2.setState("ACT");
@@ -72,6 +77,22 @@ public class ProductsAccountsServiceTest {
         assertEquals(expectedAccounts, actualAccounts);
     }
 
+    @Test
+    void testListActivesPage() {
+        // Given
+        ProductAccount account = new ProductAccount();
+        account.setId("zxc123");
+        account.setName("account2");
+        when(productAccountRepository.findByStatePage("ACT", "asd123", 11, null)).thenReturn(Arrays.asList(account));
+
+        // When
+        List<ProductAccount> page = productAccountService.listActivesPage("asd123", 11, null);
+
+        // Then
+        verify(productAccountRepository, times(1)).findByStatePage("ACT", "asd123", 11, null);
+        assertEquals(Arrays.asList(account), page);
+    }
+
     @Test
     void testObtainById() {
         // Given
@@ -80,7 +101,7 @@ public class ProductsAccountsServiceTest {
         expectedAccount.setId(id);
         expectedAccount.setName("account1");
         expectedAccount.setDescription("description1");
-        expectedAccount.setMinimunBalance(new BigDecimal("800.00"));
+        expectedAccount.setMinimunBalance(FixedDecimal.of("800.00"));
         expectedAccount.setPayInterest("Y");
         expectedAccount.setAcceptsChecks("Y");
         expectedAccount.setState("ACT");
@@ -96,6 +117,45 @@ public class ProductsAccountsServiceTest {
         assertEquals(expectedAccount, actualAccount);
     }
 
+    @Test
+    void testObtainViewById() {
+        // Given
+        String id = "asd123";
+        ProductAccount account = new ProductAccount();
+        account.setId(id);
+        account.setName("account1");
+        account.setDescription("description1");
+        account.setMinimunBalance(FixedDecimal.of("800.00"));
+        account.setPayInterest("Y");
+        account.setAcceptsChecks("Y");
+        account.setState("ACT");
+        account.setCreationDate(new Date());
+        when(productAccountRepository.findById(id)).thenReturn(Optional.of(account));
+
+        // When
+        ProductAccountRQRS actualAccount = productAccountService.obtainViewById(id);
+
+        // Then
+        verify(productAccountRepository, times(1)).findById(id);
+        assertEquals(ProductAccountRQRS.builder().id(id).name("account1").description("description1")
+                .minimunBalance(FixedDecimal.of("800.00")).payInterest("Y").acceptsChecks("Y").state("ACT").build(),
+                actualAccount);
+    }
+
+    @Test
+    void testObtainViewByIdThrowsException() {
+        // Given
+        String id = "asd123";
+        when(productAccountRepository.findById(id)).thenReturn(Optional.empty());
+
+        // When
+        CRUDException exception = assertThrows(CRUDException.class,
+                () -> productAccountService.obtainViewById(id));
+
+        // Then
+        assertEquals("Product Account with id: {asd123} does not exist", exception.getMessage());
+    }
+
     @Test
     void testObtainByIdThrowsException() {
         // Given
@@ -118,7 +178,7 @@ public class ProductsAccountsServiceTest {
         productAccount.setId("asd123");
         productAccount.setName("account1");
         productAccount.setDescription("description1");
-        productAccount.setMinimunBalance(new BigDecimal("150.00"));
+        productAccount.setMinimunBalance(FixedDecimal.of("150.00"));
         productAccount.setPayInterest("Y");
         productAccount.setAcceptsChecks("Y");
         productAccount.setState("ACT");
@@ -128,6 +188,7 @@ public class ProductsAccountsServiceTest {
 
         // Then
         verify(productAccountRepository, times(1)).save(productAccount);
+        verify(catalogCache, times(1)).invalidate();
         assertNotNull(productAccount.getCreationDate());
     }
 
@@ -138,7 +199,7 @@ public class ProductsAccountsServiceTest {
         productAccount.setId("asd123");
         productAccount.setName("account1");
         productAccount.setDescription("description1");
-        productAccount.setMinimunBalance(new BigDecimal("150.00"));
+        productAccount.setMinimunBalance(FixedDecimal.of("150.00"));
         productAccount.setPayInterest("Y");
         productAccount.setAcceptsChecks("Y");
         productAccount.setState("ACT");
@@ -1,13 +1,16 @@
 create database products;
 
+create sequence INTEREST_RATE_SEQ increment by 50;
+
 create table
     INTEREST_RATE (
-        ID_INTEREST_RATE SERIAL not null,
+        ID_INTEREST_RATE INTEGER not null,
         NAME VARCHAR(50) not null,
         INTEREST_RATE NUMERIC(2, 2) not null,
         STATE VARCHAR(3) not null constraint CKC_STATE_INTEREST check (STATE in ('ACT', 'INA')),
         START_DATE DATE not null,
         END_DATE DATE null,
+        VERSION BIGINT default 0 not null,
         constraint PK_INTEREST_RATE primary key (ID_INTEREST_RATE)
     );
 
@@ -26,12 +29,13 @@ create table
 
 insert into interest_rate
 values (
-        default,
+        nextval('INTEREST_RATE_SEQ'),
         'PASIVA CORRIENTE',
         0.0,
         'ACT',
         NOW(),
-        null
+        null,
+        0
     );
 
 insert into product_account